@@ -256,6 +256,9 @@ public class Playground {
           getCurrentConfig.addActionListener(e -> getConfig());
           JButton loadSavedConfig = new JButton("Load Saved Config");
           loadSavedConfig.addActionListener(e -> larsonScanner.loadConfig(config));
+          JButton toggleOverlay = new JButton("Toggle Overlay");
+          toggleOverlay.addActionListener(
+              e -> larsonScanner.useDebugOverlay(!larsonScanner.isDebugOverlayActive()));
 
           toggles.add(startStop);
           toggles.add(toggleShape);
@@ -269,6 +272,7 @@ public class Playground {
           toggles.add(loadDefaults);
           toggles.add(getCurrentConfig);
           toggles.add(loadSavedConfig);
+          toggles.add(toggleOverlay);
 
           JPanel config = new JPanel(true);
           config.setLayout(new BoxLayout(config, BoxLayout.Y_AXIS));
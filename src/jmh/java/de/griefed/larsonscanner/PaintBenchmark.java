@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Griefed
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.griefed.larsonscanner;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark painting a Larson Scanner into a headless {@link BufferedImage}, across all four draw
+ * paths, Cylon or Kitt with oval or rectangular elements, with and without gradients, at every
+ * rendering quality, number of elements and width. The eye is paused, so every invocation paints
+ * the same frame from the sprites rendered during the warmup.
+ *
+ * <p>Run with <code>./gradlew jmh</code>. JMH options, for example to only run some of the
+ * parameters, are passed with <code>-PjmhArgs</code>, e.g. <code>
+ * ./gradlew jmh -PjmhArgs="-p animation=kitt -p quality=high"</code>.
+ *
+ * @author Griefed
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PaintBenchmark {
+
+  @Param({"cylon", "kitt"})
+  private String animation;
+
+  @Param({"oval", "rectangle"})
+  private String shape;
+
+  @Param({"true", "false"})
+  private boolean gradient;
+
+  @Param({"low", "medium", "high"})
+  private String quality;
+
+  @Param({"5", "21"})
+  private byte elements;
+
+  @Param({"200", "800"})
+  private int width;
+
+  private LarsonScanner larsonScanner;
+  private BufferedImage image;
+  private Graphics2D graphics;
+
+  /**
+   * Create the Larson Scanner with the parameters of the current run, laid out at the width of
+   * the current run and a tenth of it as its height.
+   *
+   * @author Griefed
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    larsonScanner = new LarsonScanner();
+    larsonScanner.pause();
+    larsonScanner.useCylonAnimation(animation.equals("cylon"));
+    larsonScanner.drawOval(shape.equals("oval"));
+    larsonScanner.useGradient(gradient);
+    larsonScanner.setNumberOfElements(elements);
+    switch (quality) {
+      case "high":
+        larsonScanner.setQualityHigh();
+        break;
+      case "medium":
+        larsonScanner.setQualityMedium();
+        break;
+      default:
+        larsonScanner.setQualityLow();
+    }
+
+    int height = Math.max(1, width / 10);
+    larsonScanner.setSize(width, height);
+    larsonScanner.doLayout();
+    image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    graphics = image.createGraphics();
+  }
+
+  /**
+   * Release the graphics of the image painted into.
+   *
+   * @author Griefed
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    graphics.dispose();
+  }
+
+  /**
+   * Paint one frame of the Larson Scanner.
+   *
+   * @return {@link BufferedImage} The image painted into, so the frame is not optimized away.
+   * @author Griefed
+   */
+  @Benchmark
+  public BufferedImage paint() {
+    larsonScanner.paint(graphics);
+    return image;
+  }
+}
@@ -0,0 +1,374 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Griefed
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.griefed.larsonscanner;
+
+import de.griefed.larsonscanner.LarsonScanner.FrameMetrics;
+import de.griefed.larsonscanner.LarsonScanner.ScannerGroup;
+import java.awt.EventQueue;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.swing.Timer;
+
+/**
+ * Benchmark how Larson Scanners scale with their number. For every number of scanners, a fresh
+ * JVM creates that many scanners, animates them for a fixed duration and reports:
+ *
+ * <ul>
+ *   <li>the number of threads the scanners added
+ *   <li>the heap retained per scanner
+ *   <li>the CPU time of the process per scanner and the CPU time of one tick
+ *   <li>the ticks per second achieved per scanner, compared to the target of the interval, and
+ *       the share of ticks which were late
+ *   <li>the frames per second painted per scanner
+ *   <li>how long tasks posted to the Event Dispatch Thread waited in its queue
+ * </ul>
+ *
+ * <p>The scanners are animated by one of two backends, each scanner by its own animator thread,
+ * <code>threads</code>, or all scanners by one {@link ScannerGroup}, <code>group</code>. Unless
+ * disabled, a Swing timer paints every scanner into an offscreen image on the Event Dispatch
+ * Thread once per interval, as a window full of scanners would be painted.
+ *
+ * <p>Run with <code>./gradlew scalability</code>. Options are passed with <code>
+ * -PscalabilityArgs</code>, e.g. <code>./gradlew scalability -PscalabilityArgs="--backend group
+ * --scanners 1,100,10000 --seconds 30 --paint false"</code>.
+ *
+ * @author Griefed
+ */
+public final class ScalabilityBenchmark {
+
+  private static final int WIDTH = 200;
+  private static final int HEIGHT = 20;
+  private static final long WARMUP_SECONDS = 2L;
+  private static final long PROBE_INTERVAL_MILLIS = 10L;
+
+  private ScalabilityBenchmark() {}
+
+  /**
+   * Run the benchmark for every requested number of scanners, each in its own JVM, and print one
+   * line of results per number of scanners.
+   *
+   * @param args {@link String}-array The options of the benchmark, see {@link
+   *     ScalabilityBenchmark}.
+   * @throws IOException if a JVM for a run could not be started or read from.
+   * @throws InterruptedException if interrupted while waiting for a run.
+   * @author Griefed
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    String backend = "threads";
+    String scanners = "1,10,100,1000,10000";
+    String seconds = "10";
+    String paint = "true";
+    int count = -1;
+
+    for (int arg = 0; arg + 1 < args.length; arg += 2) {
+      switch (args[arg]) {
+        case "--backend":
+          backend = args[arg + 1];
+          break;
+        case "--scanners":
+          scanners = args[arg + 1];
+          break;
+        case "--seconds":
+          seconds = args[arg + 1];
+          break;
+        case "--paint":
+          paint = args[arg + 1];
+          break;
+        case "--run":
+          count = Integer.parseInt(args[arg + 1]);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option. Specified " + args[arg]);
+      }
+    }
+
+    if (!backend.equals("threads") && !backend.equals("group")) {
+      throw new IllegalArgumentException("Backend must be threads or group. Specified " + backend);
+    }
+
+    if (count != -1) {
+      if (count < 1) {
+        throw new IllegalArgumentException(
+            "Number of scanners must be greater than 0. Specified " + count);
+      }
+      run(backend, count, Long.parseLong(seconds), Boolean.parseBoolean(paint));
+      return;
+    }
+
+    System.out.printf(
+        "%-8s %8s %8s %10s %10s %10s %14s %8s %8s %10s %10s%n",
+        "backend",
+        "scanners",
+        "threads",
+        "heap B",
+        "cpu %",
+        "tick us",
+        "ticks/s",
+        "late %",
+        "fps",
+        "edt ms",
+        "edt p99");
+    String java =
+        System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    for (String scannerCount : scanners.split(",")) {
+      List<String> command =
+          new ArrayList<>(
+              Arrays.asList(
+                  java,
+                  "-Djava.awt.headless=true",
+                  "-cp",
+                  System.getProperty("java.class.path"),
+                  ScalabilityBenchmark.class.getName(),
+                  "--backend",
+                  backend,
+                  "--seconds",
+                  seconds,
+                  "--paint",
+                  paint,
+                  "--run",
+                  scannerCount.trim()));
+      Process process =
+          new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+      try (BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          System.out.println(line);
+        }
+      }
+      if (process.waitFor() != 0) {
+        System.out.printf("%-8s %8s failed%n", backend, scannerCount.trim());
+      }
+    }
+  }
+
+  /**
+   * Create and animate the given number of scanners, then print one line of results.
+   *
+   * @param backend {@link String} The backend animating the scanners, <code>threads</code> or
+   *     <code>group</code>.
+   * @param count {@link Integer} The number of scanners.
+   * @param seconds {@link Long} How long to measure for, in seconds.
+   * @param paint {@link Boolean} Whether to paint the scanners on the Event Dispatch Thread.
+   * @throws InterruptedException if interrupted while animating the scanners.
+   * @author Griefed
+   */
+  private static void run(String backend, int count, long seconds, boolean paint)
+      throws InterruptedException {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+    long heapBefore = usedHeap(memory);
+
+    LarsonScanner[] larsonScanners = new LarsonScanner[count];
+    ScannerGroup group = backend.equals("group") ? new ScannerGroup() : null;
+    for (int index = 0; index < count; index++) {
+      LarsonScanner larsonScanner = new LarsonScanner();
+      larsonScanner.setSize(WIDTH, HEIGHT);
+      larsonScanner.doLayout();
+      larsonScanners[index] = larsonScanner;
+    }
+    long heapPerScanner = (usedHeap(memory) - heapBefore) / count;
+
+    for (LarsonScanner larsonScanner : larsonScanners) {
+      larsonScanner.play();
+      if (group != null) {
+        group.add(larsonScanner);
+      }
+    }
+    int threads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+    short interval = group != null ? group.getInterval() : larsonScanners[0].getInterval();
+
+    Timer painter = null;
+    if (paint) {
+      BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+      Graphics2D graphics = image.createGraphics();
+      painter =
+          new Timer(
+              interval,
+              event -> {
+                for (LarsonScanner larsonScanner : larsonScanners) {
+                  larsonScanner.paint(graphics);
+                }
+              });
+      painter.start();
+    }
+
+    TimeUnit.SECONDS.sleep(WARMUP_SECONDS);
+
+    long[] latencies = new long[(int) (seconds * 1000L / PROBE_INTERVAL_MILLIS) + 1];
+    int[] probes = new int[1];
+    ScheduledExecutorService prober = Executors.newSingleThreadScheduledExecutor();
+    FrameMetrics before = LarsonScanner.getAnimationMetrics();
+    long cpuBefore = processCpuTime();
+    long start = System.nanoTime();
+
+    prober.scheduleAtFixedRate(
+        () -> {
+          long posted = System.nanoTime();
+          EventQueue.invokeLater(
+              () -> {
+                if (probes[0] < latencies.length) {
+                  latencies[probes[0]++] = System.nanoTime() - posted;
+                }
+              });
+        },
+        0L,
+        PROBE_INTERVAL_MILLIS,
+        TimeUnit.MILLISECONDS);
+    TimeUnit.SECONDS.sleep(seconds);
+
+    FrameMetrics after = LarsonScanner.getAnimationMetrics();
+    long cpu = processCpuTime() - cpuBefore;
+    double elapsed = (System.nanoTime() - start) / 1_000_000_000.0D;
+    prober.shutdownNow();
+    if (painter != null) {
+      painter.stop();
+    }
+
+    long[] measured = new long[0];
+    try {
+      measured = edtLatencies(latencies, probes);
+    } catch (InvocationTargetException ignored) {
+    }
+
+    long ticks = after.getTicks() - before.getTicks();
+    double scanners = count;
+    System.out.printf(
+        Locale.ROOT,
+        "%-8s %8d %8d %10d %10.3f %10.2f %6.2f / %5.2f %8.2f %8.2f %10.2f %10.2f%n",
+        backend,
+        count,
+        threads,
+        heapPerScanner,
+        cpu < 0L ? -1.0D : cpu / elapsed / 10_000_000.0D / scanners,
+        ticks == 0L ? 0.0D : (after.getTickCpuTime() - before.getTickCpuTime()) / 1000.0D / ticks,
+        ticks / elapsed / scanners,
+        1000.0D / interval,
+        ticks == 0L ? 0.0D : (after.getLateTicks() - before.getLateTicks()) * 100.0D / ticks,
+        (after.getFramesPainted() - before.getFramesPainted()) / elapsed / scanners,
+        mean(measured) / 1_000_000.0D,
+        percentile(measured, 0.99D) / 1_000_000.0D);
+    System.exit(0);
+  }
+
+  /**
+   * Collect the latencies measured by the probes on the Event Dispatch Thread, waiting for the
+   * probes still in its queue.
+   *
+   * @param latencies {@link Long}-array The latencies recorded by the probes.
+   * @param probes {@link Integer}-array Holding the number of latencies recorded.
+   * @return {@link Long}-array The recorded latencies, sorted.
+   * @throws InterruptedException if interrupted while waiting for the Event Dispatch Thread.
+   * @throws InvocationTargetException if collecting the latencies failed.
+   * @author Griefed
+   */
+  private static long[] edtLatencies(long[] latencies, int[] probes)
+      throws InterruptedException, InvocationTargetException {
+    long[][] measured = new long[1][];
+    EventQueue.invokeAndWait(() -> measured[0] = Arrays.copyOf(latencies, probes[0]));
+    Arrays.sort(measured[0]);
+    return measured[0];
+  }
+
+  /**
+   * Get the heap used after collecting garbage.
+   *
+   * @param memory {@link MemoryMXBean} to read the heap usage from.
+   * @return {@link Long} The used heap in bytes.
+   * @throws InterruptedException if interrupted while waiting for the garbage collection.
+   * @author Griefed
+   */
+  private static long usedHeap(MemoryMXBean memory) throws InterruptedException {
+    for (int collection = 0; collection < 3; collection++) {
+      System.gc();
+      TimeUnit.MILLISECONDS.sleep(100L);
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+
+  /**
+   * Get the CPU time used by this JVM so far.
+   *
+   * @return {@link Long} The CPU time in nanoseconds, or <code>-1</code> if it is not available.
+   * @author Griefed
+   */
+  private static long processCpuTime() {
+    OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    if (os instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+    }
+    return -1L;
+  }
+
+  /**
+   * Get the mean of the given values.
+   *
+   * @param values {@link Long}-array The values.
+   * @return {@link Double} The mean, or <code>0</code> if there are no values.
+   * @author Griefed
+   */
+  private static double mean(long[] values) {
+    if (values.length == 0) {
+      return 0.0D;
+    }
+    double sum = 0.0D;
+    for (long value : values) {
+      sum += value;
+    }
+    return sum / values.length;
+  }
+
+  /**
+   * Get a percentile of the given sorted values.
+   *
+   * @param values {@link Long}-array The sorted values.
+   * @param percentile {@link Double} The percentile, from <code>0</code> to <code>1</code>.
+   * @return {@link Long} The value at the percentile, or <code>0</code> if there are no values.
+   * @author Griefed
+   */
+  private static long percentile(long[] values, double percentile) {
+    if (values.length == 0) {
+      return 0L;
+    }
+    return values[Math.min(values.length - 1, (int) Math.ceil(percentile * values.length) - 1)];
+  }
+}
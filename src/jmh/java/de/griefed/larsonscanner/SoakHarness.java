@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Griefed
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.griefed.larsonscanner;
+
+import de.griefed.larsonscanner.LarsonScanner.ScannerConfig;
+import de.griefed.larsonscanner.LarsonScanner.ScannerGroup;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+
+/**
+ * Soak Larson Scanners for leaks of threads and memory. For the given duration, the harness
+ * repeatedly creates a batch of scanners, shows them in a panel and paints it, reconfigures them
+ * with {@link LarsonScanner#loadConfig(ScannerConfig)} and {@link
+ * LarsonScanner#setNumberOfElements(byte)}, has some of them join a {@link ScannerGroup}, bind
+ * their speed or register their MBean, and then removes and disposes of them. Scanners which are
+ * neither grouped, bound nor registered are dropped without being disposed instead, some of them
+ * paused, so their animator threads have to end once they are collected.
+ *
+ * <p>Once per sample interval, garbage is collected and the live threads, the used heap and the
+ * objects pending finalization are printed. The first sample after the warmup is the baseline. The
+ * harness exits with status <code>1</code> if, at the end, there are more live threads than in
+ * the baseline, the used heap grew by more than the allowed growth, or objects are still pending
+ * finalization.
+ *
+ * <p>Run with <code>./gradlew soak</code>. Options are passed with <code>-PsoakArgs</code>, e.g.
+ * <code>./gradlew soak -PsoakArgs="--minutes 240 --scanners 50 --sample-seconds 60
+ * --heap-growth-mb 8"</code>.
+ *
+ * @author Griefed
+ */
+public final class SoakHarness {
+
+  private static final int WIDTH = 200;
+  private static final int HEIGHT = 20;
+  private static final int FRAMES_PER_CYCLE = 3;
+
+  private SoakHarness() {}
+
+  /**
+   * Soak Larson Scanners with the given options and exit with the result.
+   *
+   * @param args {@link String}-array The options of the harness, see {@link SoakHarness}.
+   * @throws InterruptedException if interrupted while soaking.
+   * @author Griefed
+   */
+  public static void main(String[] args) throws InterruptedException {
+    double minutes = 60.0D;
+    int scanners = 20;
+    long sampleSeconds = 60L;
+    long heapGrowthMegabytes = 8L;
+
+    for (int arg = 0; arg + 1 < args.length; arg += 2) {
+      switch (args[arg]) {
+        case "--minutes":
+          minutes = Double.parseDouble(args[arg + 1]);
+          break;
+        case "--scanners":
+          scanners = Integer.parseInt(args[arg + 1]);
+          break;
+        case "--sample-seconds":
+          sampleSeconds = Long.parseLong(args[arg + 1]);
+          break;
+        case "--heap-growth-mb":
+          heapGrowthMegabytes = Long.parseLong(args[arg + 1]);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option. Specified " + args[arg]);
+      }
+    }
+
+    if (scanners < 1) {
+      throw new IllegalArgumentException(
+          "Number of scanners must be greater than 0. Specified " + scanners);
+    }
+
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    long end = System.nanoTime() + (long) (minutes * 60_000_000_000.0D);
+    long nextSample = System.nanoTime() + TimeUnit.SECONDS.toNanos(sampleSeconds);
+    long cycles = 0L;
+    Sample baseline = null;
+    Sample last = null;
+
+    System.out.printf(
+        "%10s %10s %8s %12s %10s%n", "minutes", "cycles", "threads", "heap MB", "pending");
+    long start = System.nanoTime();
+    while (System.nanoTime() < end) {
+      cycle(scanners, cycles);
+      cycles++;
+
+      if (System.nanoTime() >= nextSample) {
+        last = Sample.take(threads, memory);
+        if (baseline == null) {
+          baseline = last;
+        }
+        System.out.printf(
+            Locale.ROOT,
+            "%10.1f %10d %8d %12.2f %10d%n",
+            (System.nanoTime() - start) / 60_000_000_000.0D,
+            cycles,
+            last.threads,
+            last.heap / 1_048_576.0D,
+            last.pendingFinalization);
+        nextSample = System.nanoTime() + TimeUnit.SECONDS.toNanos(sampleSeconds);
+      }
+    }
+
+    last = Sample.take(threads, memory);
+    if (baseline == null) {
+      baseline = last;
+    }
+    boolean leaked = false;
+    if (last.threads > baseline.threads) {
+      System.out.printf("Live threads grew from %d to %d%n", baseline.threads, last.threads);
+      leaked = true;
+    }
+    if (last.heap - baseline.heap > heapGrowthMegabytes * 1_048_576L) {
+      System.out.printf(
+          Locale.ROOT,
+          "Used heap grew by %.2f MB, more than the allowed %d MB%n",
+          (last.heap - baseline.heap) / 1_048_576.0D,
+          heapGrowthMegabytes);
+      leaked = true;
+    }
+    if (last.pendingFinalization > 0) {
+      System.out.printf("%d objects are pending finalization%n", last.pendingFinalization);
+      leaked = true;
+    }
+    System.out.printf("%d cycles, %s%n", cycles, leaked ? "leaking" : "no leaks");
+    System.exit(leaked ? 1 : 0);
+  }
+
+  /**
+   * Run one cycle: create, show, reconfigure and dispose of or drop a batch of scanners.
+   *
+   * @param scanners {@link Integer} The number of scanners in the batch.
+   * @param cycle {@link Long} The number of the cycle, varying what the scanners do.
+   * @author Griefed
+   */
+  private static void cycle(int scanners, long cycle) {
+    JPanel window = new JPanel(new GridLayout(0, 1));
+    window.setSize(WIDTH, HEIGHT * scanners);
+    LarsonScanner[] larsonScanners = new LarsonScanner[scanners];
+    ScannerGroup group = new ScannerGroup();
+
+    for (int index = 0; index < scanners; index++) {
+      LarsonScanner larsonScanner = new LarsonScanner((short) 10, Color.BLACK);
+      larsonScanners[index] = larsonScanner;
+      window.add(larsonScanner);
+      larsonScanner.play();
+
+      switch ((int) ((cycle + index) % 4)) {
+        case 0:
+          group.add(larsonScanner);
+          break;
+        case 1:
+          larsonScanner.bindSpeed(() -> 1.5D, 5L, speed -> speed);
+          break;
+        case 2:
+          larsonScanner.registerMBean("Soak " + index);
+          break;
+        default:
+          larsonScanner.addEye(Color.BLUE, (short) 10, 0.5D, true);
+      }
+    }
+    window.doLayout();
+    paint(window);
+
+    for (int index = 0; index < scanners; index++) {
+      LarsonScanner larsonScanner = larsonScanners[index];
+      ScannerConfig config = new ScannerConfig();
+      config.setCylonAnimation((cycle + index) % 2 == 0);
+      config.setOvalShaped((cycle + index) % 3 == 0);
+      config.setQualitySetting((int) ((cycle + index) % 3));
+      config.setEyeColours(
+          new Color[] {Color.RED, Color.GREEN, Color.BLUE, Color.GREEN, Color.RED});
+      larsonScanner.loadConfig(config);
+      larsonScanner.setNumberOfElements((byte) (3 + 2 * ((cycle + index) % 5)));
+    }
+    paint(window);
+
+    for (int index = 0; index < scanners; index++) {
+      LarsonScanner larsonScanner = larsonScanners[index];
+      window.remove(larsonScanner);
+      if ((cycle + index) % 4 != 3) {
+        larsonScanner.dispose();
+      } else if (cycle % 2 == 0) {
+        larsonScanner.pause();
+      }
+    }
+  }
+
+  /**
+   * Paint the panel showing the scanners a few times, as a window would.
+   *
+   * @param window {@link JPanel} The panel showing the scanners.
+   * @author Griefed
+   */
+  private static void paint(JPanel window) {
+    BufferedImage image =
+        new BufferedImage(window.getWidth(), window.getHeight(), BufferedImage.TYPE_INT_RGB);
+    for (int frame = 0; frame < FRAMES_PER_CYCLE; frame++) {
+      Graphics2D graphics = image.createGraphics();
+      window.paint(graphics);
+      graphics.dispose();
+    }
+  }
+
+  /**
+   * The live threads, used heap and objects pending finalization at one point in time.
+   *
+   * @author Griefed
+   */
+  private static final class Sample {
+
+    private final int threads;
+    private final long heap;
+    private final int pendingFinalization;
+
+    private Sample(int threads, long heap, int pendingFinalization) {
+      this.threads = threads;
+      this.heap = heap;
+      this.pendingFinalization = pendingFinalization;
+    }
+
+    /**
+     * Collect garbage, let finalizers run, and take a sample.
+     *
+     * @param threads {@link ThreadMXBean} to count the live threads with.
+     * @param memory {@link MemoryMXBean} to read the used heap and pending finalization from.
+     * @return {@link Sample} The sample.
+     * @throws InterruptedException if interrupted while waiting for finalizers.
+     * @author Griefed
+     */
+    private static Sample take(ThreadMXBean threads, MemoryMXBean memory)
+        throws InterruptedException {
+      for (int collection = 0; collection < 3; collection++) {
+        System.gc();
+        System.runFinalization();
+        TimeUnit.MILLISECONDS.sleep(200L);
+      }
+      return new Sample(
+          threads.getThreadCount(),
+          memory.getHeapMemoryUsage().getUsed(),
+          memory.getObjectPendingFinalizationCount());
+    }
+  }
+}
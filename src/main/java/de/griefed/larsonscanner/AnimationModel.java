@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Griefed
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.griefed.larsonscanner;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Moves an eye along its track and lays out its elements around the current position. The built-in
+ * models are {@link #CYLON} and {@link #KITT}. For details on how they behave, see {@link
+ * LarsonScanner#useCylonAnimation(boolean)}.
+ *
+ * <p>Every state of an eye binds exactly one model, so the eye calls the same implementation on
+ * every tick and frame instead of deciding how to animate every time. Moving happens on the
+ * animator thread, laying out on the thread painting the eye. One model may be bound by any number
+ * of eyes at the same time, so position and direction must only ever be kept in the track handed to
+ * the model, never in the model itself.
+ *
+ * <p>Animation models are free of any dependency on AWT or Swing, so they may move and lay out the
+ * eye of a {@link ScannerEngine} driven without a {@link LarsonScanner}, too.
+ *
+ * @author Griefed
+ */
+public interface AnimationModel {
+
+  /**
+   * The Cylon-eye. The brightest element is in the centre of the eye, which sweeps from the left
+   * edge of the Larson Scanner to the right edge and back.
+   */
+  AnimationModel CYLON = new CylonModel();
+
+  /**
+   * The Kitt-eye. The brightest element leads the eye, which emerges from one edge of the Larson
+   * Scanner, leaves at the other and gathers at the edges in between.
+   */
+  AnimationModel KITT = new KittModel();
+
+  /**
+   * Move the position of the eye by one update.
+   *
+   * @param motion {@link Motion} The track of the eye, with its current position and direction.
+   * @author Griefed
+   */
+  void move(@NotNull Motion motion);
+
+  /**
+   * Get the position at which the eye turns around when moving towards the start of the track. Used
+   * for easing the movement of the eye.
+   *
+   * @param track {@link Track} The track of the eye.
+   * @return {@link Double} The smallest position of the eye.
+   * @author Griefed
+   */
+  double sweepStart(@NotNull Track track);
+
+  /**
+   * Get the position at which the eye turns around when moving towards the end of the track. Used
+   * for easing the movement of the eye.
+   *
+   * @param track {@link Track} The track of the eye.
+   * @return {@link Double} The biggest position of the eye.
+   * @author Griefed
+   */
+  double sweepEnd(@NotNull Track track);
+
+  /**
+   * Lay out the elements of the eye at its current position, handing every element to draw to the
+   * given layout. Elements may be handed over more than once, or not at all.
+   *
+   * @param track {@link Track} The track of the eye, with the position and direction to draw.
+   * @param layout {@link Layout} The layout receiving the elements to draw.
+   * @author Griefed
+   */
+  void layout(@NotNull Track track, @NotNull Layout layout);
+
+  /**
+   * The track an eye moves along, measured in user space. Positions range from <code>0</code> to
+   * the length of the track, but an eye may leave the track on either side.
+   *
+   * @author Griefed
+   */
+  interface Track {
+
+    /**
+     * Get the current position of the eye along the track.
+     *
+     * @return {@link Double} The current position.
+     * @author Griefed
+     */
+    double getPosition();
+
+    /**
+     * Get whether the eye is currently moving towards the end of the track.
+     *
+     * @return {@link Boolean} <code>true</code> if the position is increasing.
+     * @author Griefed
+     */
+    boolean isIncreasing();
+
+    /**
+     * Get the length of the track.
+     *
+     * @return {@link Double} The length of the track.
+     * @author Griefed
+     */
+    double getLength();
+
+    /**
+     * Get the width of one element along the track.
+     *
+     * @return {@link Double} The width of one element.
+     * @author Griefed
+     */
+    double getElementWidth();
+
+    /**
+     * Get the width of the gap between two elements. Always <code>0</code> if the shape of the
+     * elements is not laid out with gaps. See {@link #isGapped()}.
+     *
+     * @return {@link Double} The width of the gap between two elements.
+     * @author Griefed
+     */
+    double getGapWidth();
+
+    /**
+     * Get whether the shape of the elements is laid out with gaps between them. See {@link
+     * LarsonScanner.ShapeRenderer#hasGaps()}.
+     *
+     * @return {@link Boolean} <code>true</code> if elements are laid out with gaps.
+     * @author Griefed
+     */
+    boolean isGapped();
+
+    /**
+     * Get the number of elements in the eye.
+     *
+     * @return {@link Byte} The number of elements.
+     * @author Griefed
+     */
+    byte getNumberOfElements();
+  }
+
+  /**
+   * The track of an eye being moved, allowing its position and direction to be changed.
+   *
+   * @author Griefed
+   */
+  interface Motion extends Track {
+
+    /**
+     * Set the position of the eye along the track. Positions are kept as whole numbers, so the
+     * given position is truncated.
+     *
+     * @param position {@link Double} The new position.
+     * @author Griefed
+     */
+    void setPosition(double position);
+
+    /**
+     * Set whether the eye moves towards the end of the track.
+     *
+     * @param increasing {@link Boolean} <code>true</code> to move towards the end.
+     * @author Griefed
+     */
+    void setIncreasing(boolean increasing);
+
+    /**
+     * Get the divider with which the position is in-/decremented, interpolated while a transition
+     * is running. See {@link LarsonScanner#setDivider(short)}.
+     *
+     * @return {@link Double} The current divider.
+     * @author Griefed
+     */
+    double getDivider();
+
+    /**
+     * Get whether the position is in-/decremented using the divider, or by 1. See {@link
+     * LarsonScanner#useDivider(boolean)}.
+     *
+     * @return {@link Boolean} <code>true</code> if the divider is in use.
+     * @author Griefed
+     */
+    boolean isDividerActive();
+  }
+
+  /**
+   * Receives the elements laid out by an animation model and draws them.
+   *
+   * @author Griefed
+   */
+  interface Layout {
+
+    /** Sprite variant for elements drawn with solid colours. */
+    byte VARIANT_SOLID = 0;
+
+    /** Sprite variant for elements drawn with the gradients of the Cylon-animation. */
+    byte VARIANT_CYLON = 1;
+
+    /** Sprite variant for elements drawn with the gradients of the Kitt-animation. */
+    byte VARIANT_KITT = 2;
+
+    /**
+     * Draw an element of the eye.
+     *
+     * @param variant {@link Byte} The sprite variant to draw the element with. Either {@link
+     *     #VARIANT_SOLID}, {@link #VARIANT_CYLON} or {@link #VARIANT_KITT}.
+     * @param element {@link Byte} The number of the element to draw.
+     * @param start {@link Double} The position along the track at which the element starts.
+     * @author Griefed
+     */
+    void element(byte variant, byte element, double start);
+  }
+}
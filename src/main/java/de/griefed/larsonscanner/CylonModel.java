@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Griefed
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.griefed.larsonscanner;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The built-in Cylon-eye. See {@link LarsonScanner#useCylonAnimation(boolean)}.
+ *
+ * @author Griefed
+ */
+final class CylonModel implements AnimationModel {
+
+  /**
+   * Move the eye from <code>0</code> to the length of the track and back.
+   *
+   * <ul>
+   *   <li>If <code>useDivider</code> is set, then the position is in-/decremented with the division
+   *       of the length of the track and the currently set divider.
+   *   <li>If <code>useDivider</code> is not set, then the position is in-/decremented by 1.
+   *   <li>When the window the Larson Scanner resides in is resized, and the position is out of the
+   *       visible area, then the position is forcefully set to either the length of the track, or
+   *       0, depending on whether the position is outside the visible field to the left or right.
+   * </ul>
+   *
+   * @param motion {@link Motion} The track of the eye, with its current position and direction.
+   * @author Griefed
+   */
+  @Override
+  public void move(@NotNull Motion motion) {
+    double position = motion.getPosition();
+    double length = motion.getLength();
+
+    if (position < 0) {
+      // switch to left to right
+
+      motion.setIncreasing(true);
+      motion.setPosition(0);
+      return;
+
+    } else if (position > length) {
+      // switch to right to left
+
+      motion.setIncreasing(false);
+      motion.setPosition(length);
+      return;
+    }
+
+    double step = motion.isDividerActive() ? length / motion.getDivider() : 1;
+
+    if (motion.isIncreasing() && position < length) {
+      // left to right
+
+      motion.setPosition(position + step);
+
+    } else if (!motion.isIncreasing() && position > 0) {
+      // right to left
+
+      motion.setPosition(position - step);
+    }
+  }
+
+  @Override
+  public double sweepStart(@NotNull Track track) {
+    return 0.0D;
+  }
+
+  @Override
+  public double sweepEnd(@NotNull Track track) {
+    return track.getLength();
+  }
+
+  /**
+   * Lay out the elements centred around the current position. Half of the total width of the eye,
+   * made up of the width of all elements and the gaps between them, is subtracted from the current
+   * position, giving the start of the first element. Every following element starts one element and
+   * gap further.
+   *
+   * @param track {@link Track} The track of the eye, with the position and direction to draw.
+   * @param layout {@link Layout} The layout receiving the elements to draw.
+   * @author Griefed
+   */
+  @Override
+  public void layout(@NotNull Track track, @NotNull Layout layout) {
+    byte numberOfElements = track.getNumberOfElements();
+    double elementWidth = track.getElementWidth();
+    double gapWidth = track.getGapWidth();
+    double start =
+        track.getPosition()
+            - (elementWidth * numberOfElements / 2.0D)
+            - gapWidth * (numberOfElements - 2) / 2.0D;
+
+    for (byte element = 0; element < numberOfElements; element++) {
+      layout.element(Layout.VARIANT_CYLON, element, start + (elementWidth + gapWidth) * element);
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022 Griefed
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package de.griefed.larsonscanner;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The built-in Kitt-eye. See {@link LarsonScanner#useCylonAnimation(boolean)}.
+ *
+ * @author Griefed
+ */
+final class KittModel implements AnimationModel {
+
+  /**
+   * Move the eye from the width of the eye before the start of the track to the width of the eye
+   * after its end, and back, so the eye fully leaves the visible area on either side.
+   *
+   * <ul>
+   *   <li>If <code>useDivider</code> is set, then the position is in-/decremented with the division
+   *       of the extended length of the track and the currently set divider.
+   *   <li>If <code>useDivider</code> is not set, then the position is in-/decremented by 1.
+   *   <li>When the window the Larson Scanner resides in is resized, and the position is out of the
+   *       extended track, then the position is forcefully set to either end of it.
+   * </ul>
+   *
+   * @param motion {@link Motion} The track of the eye, with its current position and direction.
+   * @author Griefed
+   */
+  @Override
+  public void move(@NotNull Motion motion) {
+    double position = motion.getPosition();
+    double maxWidth = sweepEnd(motion);
+    double maxNegative = sweepStart(motion);
+
+    if (position < maxNegative) {
+      // switch to left to right
+
+      motion.setIncreasing(true);
+      motion.setPosition(maxNegative);
+      return;
+
+    } else if (position > maxWidth) {
+      // switch to right to left
+
+      motion.setIncreasing(false);
+      motion.setPosition(maxWidth);
+      return;
+    }
+
+    double step = motion.isDividerActive() ? maxWidth / motion.getDivider() : 1;
+
+    if (motion.isIncreasing() && position < maxWidth) {
+      // left to right
+
+      motion.setPosition(position + step);
+
+    } else if (!motion.isIncreasing() && position > maxNegative) {
+      // right to left
+
+      motion.setPosition(position - step);
+    }
+  }
+
+  @Override
+  public double sweepStart(@NotNull Track track) {
+    return 0 - widthOfEye(track);
+  }
+
+  @Override
+  public double sweepEnd(@NotNull Track track) {
+    return track.getLength() + widthOfEye(track);
+  }
+
+  /**
+   * Lay out the elements trailing the current position, followed by the element which creates the
+   * illusion of the eye emerging from, or gathering at, the edges of the track.
+   *
+   * <ul>
+   *   <li>Left-to-right: every element starts the width of one element and gap further right than
+   *       the one before it. When the eye enters the right edge, the brightest element is drawn at
+   *       the edge, while the eye leaving the left edge draws the next element to emerge at the
+   *       edge.
+   *   <li>Right-to-left: the same, mirrored. Oval elements end at the current position, while
+   *       rectangles start there.
+   * </ul>
+   *
+   * @param track {@link Track} The track of the eye, with the position and direction to draw.
+   * @param layout {@link Layout} The layout receiving the elements to draw.
+   * @author Griefed
+   */
+  @Override
+  public void layout(@NotNull Track track, @NotNull Layout layout) {
+    byte numberOfElements = track.getNumberOfElements();
+    byte last = (byte) (numberOfElements - 1);
+    double position = track.getPosition();
+    double length = track.getLength();
+    double elementWidth = track.getElementWidth();
+    double gapWidth = track.getGapWidth();
+    boolean gapped = track.isGapped();
+    byte elementToDraw;
+
+    if (track.isIncreasing()) {
+      // Going left to right
+
+      for (byte element = 0; element < numberOfElements; element++) {
+        layout.element(
+            Layout.VARIANT_KITT, element, position + element * (elementWidth + gapWidth));
+      }
+
+      double posDrawn =
+          position + numberOfElements * elementWidth + ((numberOfElements - 2) * gapWidth);
+
+      if (posDrawn > length) {
+        /*
+         * We are entering the nether on the right side, so we draw the brightest element at the
+         * most right position to create the illusion of the elements gathering.
+         */
+        layout.element(
+            gapped ? Layout.VARIANT_SOLID : Layout.VARIANT_KITT, last, length - elementWidth);
+
+      } else if (position < 0) {
+        /*
+         * We are leaving the nether on the left side, so we need to draw that the next element
+         * after the ones already visible to create the illusion of the eye emerging.
+         */
+        elementToDraw = (byte) (numberOfElements - (posDrawn / elementWidth) - 1);
+
+        if (elementToDraw >= 0 && elementToDraw < numberOfElements) {
+          layout.element(Layout.VARIANT_KITT, elementToDraw, 0);
+        }
+      }
+
+    } else {
+      // Going right to left
+
+      for (byte element = 0; element < numberOfElements; element++) {
+        if (gapped) {
+          layout.element(
+              Layout.VARIANT_KITT, element, position - element * (elementWidth + gapWidth));
+        } else {
+          layout.element(Layout.VARIANT_KITT, element, position - (element + 1) * elementWidth);
+        }
+      }
+
+      double posDrawn =
+          position - numberOfElements * elementWidth + ((numberOfElements - 2) * gapWidth);
+
+      if (posDrawn <= 0) {
+        /*
+         * We are entering the nether on the left side, so we draw the brightest element at the
+         * most left position to create the illusion of the elements gathering.
+         */
+        layout.element(Layout.VARIANT_KITT, last, 0);
+
+      } else if (position >= length) {
+        /*
+         * We are leaving the nether on the right side, so we need to draw the next element
+         * after the ones already visible to create the illusion of the eye emerging.
+         */
+        elementToDraw = (byte) ((position - length) / elementWidth);
+
+        if (elementToDraw >= numberOfElements) {
+          elementToDraw = last;
+        }
+
+        if (elementToDraw >= 0) {
+          layout.element(Layout.VARIANT_KITT, elementToDraw, length - elementWidth);
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the total width of the eye, made up of the width of all elements and the gaps between them.
+   *
+   * @param track {@link Track} The track of the eye.
+   * @return {@link Double} The total width of the eye.
+   * @author Griefed
+   */
+  private static double widthOfEye(@NotNull Track track) {
+    byte numberOfElements = track.getNumberOfElements();
+    return numberOfElements * track.getElementWidth()
+        + track.getGapWidth() * (numberOfElements - 2);
+  }
+}
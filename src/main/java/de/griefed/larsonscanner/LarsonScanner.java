@@ -26,17 +26,57 @@ package de.griefed.larsonscanner;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Point;
+import java.awt.GraphicsConfiguration;
 import java.awt.RadialGradientPaint;
 import java.awt.RenderingHints;
 import java.awt.Toolkit;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
 import javax.swing.JComponent;
 import javax.swing.JPanel;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A Larson Scanner which some may or may not know from the Cylons from Battlestar Galactica or Kitt
@@ -62,8 +102,18 @@ public class LarsonScanner extends JPanel {
 
   private static final Color DEFAULT_BACKGROUND_COLOUR = new Color(0, 0, 0);
   private static final Color DEFAULT_EYE_COLOUR = new Color(255, 0, 0);
+  private static final Map<String, Integer> CALIBRATED_QUALITIES = new ConcurrentHashMap<>();
+  private static volatile SpriteStore spriteStore = null;
+  private static ScheduledExecutorService speedSampler = null;
+  private static ExecutorService calibrator = null;
+  private static final FrameRecorder ANIMATION_RECORDER = new FrameRecorder(null);
+  private static final AtomicInteger INSTANCES = new AtomicInteger();
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  private static final boolean THREAD_CPU_TIME =
+      THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
   private final Thread ANIMATOR_THREAD;
   private final Eye EYE;
+  private ScannerMBean mbean = null;
 
   /**
    * Create a Larson Scanner with default settings.
@@ -96,7 +146,8 @@ public class LarsonScanner extends JPanel {
     EYE = new Eye();
     add(EYE, BorderLayout.CENTER);
 
-    ANIMATOR_THREAD = new Thread(EYE, "animation");
+    ANIMATOR_THREAD = new Thread(EYE.animator, "animation");
+    ANIMATOR_THREAD.setDaemon(true);
     ANIMATOR_THREAD.start();
   }
 
@@ -116,7 +167,8 @@ public class LarsonScanner extends JPanel {
     EYE = new Eye(updateInterval);
     add(EYE, BorderLayout.CENTER);
 
-    ANIMATOR_THREAD = new Thread(EYE, "LarsonScanner Eye");
+    ANIMATOR_THREAD = new Thread(EYE.animator, "LarsonScanner Eye");
+    ANIMATOR_THREAD.setDaemon(true);
     ANIMATOR_THREAD.start();
   }
 
@@ -138,7 +190,8 @@ public class LarsonScanner extends JPanel {
     EYE = new Eye(interval, backgroundColor);
     add(EYE, BorderLayout.CENTER);
 
-    ANIMATOR_THREAD = new Thread(EYE, "LarsonScanner Eye");
+    ANIMATOR_THREAD = new Thread(EYE.animator, "LarsonScanner Eye");
+    ANIMATOR_THREAD.setDaemon(true);
     ANIMATOR_THREAD.start();
   }
 
@@ -161,7 +214,8 @@ public class LarsonScanner extends JPanel {
     EYE = new Eye(interval, backgroundColor, eyeColor);
     add(EYE, BorderLayout.CENTER);
 
-    ANIMATOR_THREAD = new Thread(EYE, "LarsonScanner Eye");
+    ANIMATOR_THREAD = new Thread(EYE.animator, "LarsonScanner Eye");
+    ANIMATOR_THREAD.setDaemon(true);
     ANIMATOR_THREAD.start();
   }
 
@@ -172,7 +226,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public byte getNumberOfElements() {
-    return EYE.numberOfElements;
+    return EYE.state.numberOfElements;
   }
 
   /**
@@ -196,38 +250,38 @@ public class LarsonScanner extends JPanel {
 
     } else {
 
-      pause();
-
-      EYE.numberOfElements = amount;
-      Color[] newColours = new Color[amount];
-      for (int i = 0; i < amount; i++) {
-        if (i < EYE.eyeColours.length) {
-          newColours[i] = EYE.eyeColours[i];
-        } else {
-          newColours[i] = DEFAULT_EYE_COLOUR;
-        }
-      }
-      EYE.eyeColours = newColours;
+      EYE.update(
+          config -> {
+            Color[] newColours = new Color[amount];
+            for (int i = 0; i < amount; i++) {
+              if (i < config.eyeColours.length) {
+                newColours[i] = config.eyeColours[i];
+              } else {
+                newColours[i] = DEFAULT_EYE_COLOUR;
+              }
+            }
 
-      short[] newAlphas = new short[amount];
-      int median = (amount + 1) / 2;
-      for (int i = 0; i < amount; i++) {
-        if (i + 1 < median) {
+            short[] newAlphas = new short[amount];
+            int median = (amount + 1) / 2;
+            for (int i = 0; i < amount; i++) {
+              if (i + 1 < median) {
 
-          newAlphas[i] = (short) (255 / median * (i + 1));
+                newAlphas[i] = (short) (255 / median * (i + 1));
 
-        } else if (i + 1 == median) {
+              } else if (i + 1 == median) {
 
-          newAlphas[i] = 255;
+                newAlphas[i] = 255;
 
-        } else {
+              } else {
 
-          newAlphas[i] = (short) ((amount - i) * 255 / median);
-        }
-      }
-      EYE.alphas = newAlphas;
+                newAlphas[i] = (short) ((amount - i) * 255 / median);
+              }
+            }
 
-      play();
+            config.setNumberOfElements(amount);
+            config.setEyeColours(newColours);
+            config.setAlphas(newAlphas);
+          });
     }
   }
 
@@ -240,7 +294,14 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void setEyeColour(@NotNull Color color) {
-    EYE.setEyeColour(color);
+    EYE.update(
+        config -> {
+          Color[] newColours = new Color[config.numberOfElements];
+          for (int i = 0; i < config.numberOfElements; i++) {
+            newColours[i] = color;
+          }
+          config.setEyeColours(newColours);
+        });
   }
 
   /**
@@ -251,7 +312,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public Color[] getEyeColours() {
-    return EYE.eyeColours;
+    return EYE.state.eyeColours.clone();
   }
 
   /**
@@ -267,15 +328,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void setEyeColours(@NotNull Color @NotNull [] colours) throws IllegalArgumentException {
-    if (colours.length != EYE.numberOfElements) {
-      throw new IllegalArgumentException(
-          "Color-array must contain exactly "
-              + EYE.numberOfElements
-              + " entries. Specified "
-              + colours.length);
-    } else {
-      EYE.setEyeColours(colours);
-    }
+    EYE.update(config -> config.setEyeColours(colours));
   }
 
   /**
@@ -285,7 +338,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public Color getEyeBackground() {
-    return EYE.getBackground();
+    return EYE.state.background;
   }
 
   /**
@@ -297,7 +350,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void setEyeBackground(@NotNull Color backgroundColor) {
-    EYE.setBackground(backgroundColor);
+    EYE.update(config -> config.setEyeBackgroundColour(backgroundColor));
   }
 
   /**
@@ -310,7 +363,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void drawOval(boolean useOval) {
-    EYE.ovalShaped = useOval;
+    EYE.update(config -> config.setOvalShaped(useOval));
   }
 
   /**
@@ -319,7 +372,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void toggleShape() {
-    EYE.ovalShaped = !EYE.ovalShaped;
+    EYE.update(config -> config.setOvalShaped(!config.ovalShaped));
   }
 
   /**
@@ -329,7 +382,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public boolean isShapeOval() {
-    return EYE.ovalShaped;
+    return EYE.state.ovalShaped;
   }
 
   /**
@@ -350,7 +403,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void useGradient(boolean useGradient) {
-    EYE.useGradients = useGradient;
+    EYE.update(config -> config.setUseGradients(useGradient));
   }
 
   /**
@@ -360,7 +413,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void toggleGradient() {
-    EYE.useGradients = !EYE.useGradients;
+    EYE.update(config -> config.setUseGradients(!config.useGradients));
   }
 
   /**
@@ -371,7 +424,47 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public boolean isGradientActive() {
-    return EYE.useGradients;
+    return EYE.state.useGradients;
+  }
+
+  /**
+   * Set whether the eye should leave a phosphor-like afterglow trail, instead of drawing a tail
+   * made of its elements. In afterglow mode, only the brightest element is drawn at the position
+   * of the eye. Every pixel column it passes lights up and fades out exponentially afterwards,
+   * with the trail fading to almost nothing while the eye travels its own width.
+   *
+   * <p>The intensity of every column is kept in a buffer which is faded and lit up with each
+   * update of the position, and the whole trail is drawn with a single image. Drawing the trail
+   * therefore costs the same regardless of the length of the trail or the number of elements.
+   *
+   * <p>Default setting: <code>false</code>
+   *
+   * @param useAfterglow {@link Boolean} Whether the eye should leave an afterglow trail.
+   * @author Griefed
+   */
+  public void useAfterglow(boolean useAfterglow) {
+    EYE.update(config -> config.setUseAfterglow(useAfterglow));
+  }
+
+  /**
+   * Toggle the afterglow trail of the eye. For more information, see {@link
+   * #useAfterglow(boolean)}.
+   *
+   * @author Griefed
+   */
+  public void toggleAfterglow() {
+    EYE.update(config -> config.setUseAfterglow(!config.afterglow));
+  }
+
+  /**
+   * Whether the eye currently leaves an afterglow trail. For more information, see {@link
+   * #useAfterglow(boolean)}.
+   *
+   * @return {@link Boolean} <code>true</code> when the eye leaves an afterglow trail.
+   * @author Griefed
+   */
+  public boolean isAfterglowActive() {
+    return EYE.state.afterglow;
   }
 
   /**
@@ -391,7 +484,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void useDivider(boolean useDivider) {
-    EYE.useDivider = useDivider;
+    EYE.update(config -> config.setUseDivider(useDivider));
   }
 
   /**
@@ -401,7 +494,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void toggleDivider() {
-    EYE.useDivider = !EYE.useDivider;
+    EYE.update(config -> config.setUseDivider(!config.useDivider));
   }
 
   /**
@@ -412,7 +505,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public boolean isDividerActive() {
-    return EYE.useDivider;
+    return EYE.state.useDivider;
   }
 
   /**
@@ -453,7 +546,7 @@ public class LarsonScanner extends JPanel {
    * @param useCylonAnimation {@link Boolean} <code>true</code> to use the Cylon animation.
    */
   public void useCylonAnimation(boolean useCylonAnimation) {
-    EYE.cylonAnimation = useCylonAnimation;
+    EYE.update(config -> config.setCylonAnimation(useCylonAnimation));
   }
 
   /**
@@ -463,7 +556,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void toggleCylonAnimation() {
-    EYE.cylonAnimation = !EYE.cylonAnimation;
+    EYE.update(config -> config.setCylonAnimation(!config.cylonAnimation));
   }
 
   /**
@@ -474,7 +567,136 @@ public class LarsonScanner extends JPanel {
    * @return {@link Boolean} <code>true</code> if the eye is being animated as a Cylon-eye.
    */
   public boolean isCylonAnimation() {
-    return EYE.cylonAnimation;
+    return EYE.state.cylonAnimation;
+  }
+
+  /**
+   * Set a custom model with which the eye is animated, replacing the built-in Cylon-eye or
+   * Kitt-eye animation. The model decides where the eye moves on every update and where its
+   * elements are drawn around the current position. Easing profiles, afterglow, orientations and
+   * additional eyes all work with custom models as they do with the built-in ones.
+   *
+   * <p>The model is bound once whenever the settings of the eye change, so the animator calls the
+   * same implementation on every tick instead of deciding how to animate every time.
+   *
+   * @param animationModel {@link AnimationModel} The model to animate the eye with, or <code>null
+   *     </code> to return to the built-in animation selected by {@link
+   *     #useCylonAnimation(boolean)}.
+   * @author Griefed
+   */
+  public void setAnimationModel(@Nullable AnimationModel animationModel) {
+    EYE.update(config -> config.setAnimationModel(animationModel));
+  }
+
+  /**
+   * Get the model with which the eye is currently animated. For more information, see {@link
+   * #setAnimationModel(AnimationModel)}.
+   *
+   * @return {@link AnimationModel} The custom model, if one is set, otherwise {@link
+   *     AnimationModel#CYLON} or {@link AnimationModel#KITT}.
+   * @author Griefed
+   */
+  public @NotNull AnimationModel getAnimationModel() {
+    return EYE.state.model;
+  }
+
+  /**
+   * Set a custom renderer with which the sprites of the elements are drawn, replacing the built-in
+   * ovals or rectangles. Sprites are rendered once per size and cached, just like the built-in
+   * ones, but they are not persisted to the sprite cache file.
+   *
+   * @param shapeRenderer {@link ShapeRenderer} The renderer to draw the elements with, or <code>
+   *     null</code> to return to the built-in shapes selected by {@link #drawOval(boolean)}.
+   * @author Griefed
+   */
+  public void setShapeRenderer(@Nullable ShapeRenderer shapeRenderer) {
+    EYE.update(config -> config.setShapeRenderer(shapeRenderer));
+  }
+
+  /**
+   * Get the renderer with which the elements are currently drawn. For more information, see {@link
+   * #setShapeRenderer(ShapeRenderer)}.
+   *
+   * @return {@link ShapeRenderer} The custom renderer, if one is set, otherwise {@link
+   *     ShapeRenderer#OVAL} or {@link ShapeRenderer#RECTANGLE}.
+   * @author Griefed
+   */
+  public @NotNull ShapeRenderer getShapeRenderer() {
+    return EYE.state.renderer;
+  }
+
+  /**
+   * Set the easing profile with which the eye moves from one side to the other.
+   *
+   * <ul>
+   *   <li>{@link ScannerConfig#EASING_LINEAR}: The eye moves at a constant speed and turns around
+   *       abruptly. This is the default.
+   *   <li>{@link ScannerConfig#EASING_SINE}: The eye accelerates and decelerates smoothly along a
+   *       sine curve.
+   *   <li>{@link ScannerConfig#EASING_CUBIC}: Like sine, but lingering longer at either side and
+   *       moving faster through the middle.
+   *   <li>{@link ScannerConfig#EASING_KITT}: The eye moves at a constant speed for most of the
+   *       way and only decelerates shortly before either side, just like the real Kitt.
+   * </ul>
+   *
+   * <p>Eased positions are looked up from a table which is calculated whenever the size of the
+   * Larson Scanner or the easing profile changes, so moving the eye stays as cheap as it is with
+   * linear motion. A full sweep takes as many updates with any profile.
+   *
+   * @param easing {@link Integer} The easing profile to use.
+   * @throws IllegalArgumentException if the specified easing profile is not 0, 1, 2 or 3.
+   * @author Griefed
+   */
+  public void setEasing(int easing) throws IllegalArgumentException {
+    EYE.update(config -> config.setEasing(easing));
+  }
+
+  /**
+   * Get the easing profile with which the eye moves. For more information, see {@link
+   * #setEasing(int)}.
+   *
+   * @return {@link Integer} The easing profile in use.
+   * @author Griefed
+   */
+  public int getEasing() {
+    return EYE.state.easing;
+  }
+
+  /**
+   * Set the orientation along which the eye scans.
+   *
+   * <ul>
+   *   <li>{@link ScannerConfig#ORIENTATION_HORIZONTAL}: The eye scans from left to right and back.
+   *       This is the default.
+   *   <li>{@link ScannerConfig#ORIENTATION_VERTICAL}: The eye scans from top to bottom and back,
+   *       across the full width of the Larson Scanner.
+   *   <li>{@link ScannerConfig#ORIENTATION_RING}: The eye scans clockwise along a ring centred in
+   *       the Larson Scanner, starting at the top. The ring is a quarter of the smaller side of
+   *       the Larson Scanner thick, unless the aspect ratio is forced.
+   * </ul>
+   *
+   * <p>The eye is animated and its elements are rendered along a straight track in every
+   * orientation, using the same sprites. Vertical scanners draw them rotated by a quarter turn.
+   * For rings, the point and direction of the ring for every position along the track are
+   * calculated once per size of the Larson Scanner, so no trigonometry happens while painting.
+   *
+   * @param orientation {@link Integer} The orientation to use.
+   * @throws IllegalArgumentException if the specified orientation is not 0, 1 or 2.
+   * @author Griefed
+   */
+  public void setOrientation(int orientation) throws IllegalArgumentException {
+    EYE.update(config -> config.setOrientation(orientation));
+  }
+
+  /**
+   * Get the orientation along which the eye scans. For more information, see {@link
+   * #setOrientation(int)}.
+   *
+   * @return {@link Integer} The orientation in use.
+   * @author Griefed
+   */
+  public int getOrientation() {
+    return EYE.state.orientation;
   }
 
   /**
@@ -492,7 +714,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void forceAspectRatio(boolean force) {
-    EYE.forceAspectRatio = force;
+    EYE.update(config -> config.setForceAspectRatio(force));
   }
 
   /**
@@ -502,7 +724,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void toggleAspectRatio() {
-    EYE.forceAspectRatio = !EYE.forceAspectRatio;
+    EYE.update(config -> config.setForceAspectRatio(!config.forceAspectRatio));
   }
 
   /**
@@ -513,7 +735,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public boolean isAspectRatioForced() {
-    return EYE.forceAspectRatio;
+    return EYE.state.forceAspectRatio;
   }
 
   /**
@@ -560,8 +782,7 @@ public class LarsonScanner extends JPanel {
               + fractionTwo);
 
     } else {
-      EYE.fractions[0] = fractionOne;
-      EYE.fractions[1] = fractionTwo;
+      EYE.update(config -> config.setFractions(fractionOne, fractionTwo));
     }
   }
 
@@ -573,7 +794,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public float[] getFractions() {
-    return EYE.fractions;
+    return EYE.state.fractions.clone();
   }
 
   /**
@@ -585,7 +806,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public short[] getAlphas() {
-    return EYE.alphas;
+    return EYE.state.alphas.clone();
   }
 
   /**
@@ -620,15 +841,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void setAlphas(short @NotNull [] alphas) throws IllegalArgumentException {
-    if (alphas.length != EYE.numberOfElements) {
-      throw new IllegalArgumentException(
-          "Alpha-array must contain exactly "
-              + EYE.numberOfElements
-              + " entries. Specified "
-              + alphas.length);
-    } else {
-      EYE.alphas = alphas;
-    }
+    EYE.update(config -> config.setAlphas(alphas));
   }
 
   /**
@@ -639,7 +852,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public short getInterval() {
-    return EYE.interval;
+    return EYE.state.interval;
   }
 
   /**
@@ -657,7 +870,7 @@ public class LarsonScanner extends JPanel {
       throw new IllegalArgumentException(
           "Interval must be greater than 0. Specified " + updateInterval);
     } else {
-      EYE.interval = updateInterval;
+      EYE.update(config -> config.setInterval(updateInterval));
     }
   }
 
@@ -670,7 +883,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public short getDivider() {
-    return EYE.divider;
+    return EYE.state.divider;
   }
 
   /**
@@ -688,8 +901,123 @@ public class LarsonScanner extends JPanel {
       throw new IllegalArgumentException(
           "Divider must be greater than 0. Specified " + newStepDivider);
     } else {
-      EYE.divider = newStepDivider;
+      EYE.update(config -> config.setDivider(newStepDivider));
+    }
+  }
+
+  /**
+   * Bind the speed of all eyes to a metric, such as the depth of a queue or the number of
+   * requests per second, turning the Larson Scanner into a load indicator. The metric is sampled
+   * at the given interval, independent of the interval at which the eyes are updated, and its
+   * value is mapped to a speed by the given curve. A speed of <code>1</code> moves the eyes as
+   * fast as their dividers say, <code>2</code> twice as fast, <code>0.5</code> half as fast and
+   * <code>0</code> stops them. Negative speeds and results which are not a number are treated as
+   * <code>0</code>. For example, <code>depth -> Math.min(4.0D, depth / 100.0D)</code> reaches
+   * full speed at a depth of 100 and at most quadruple speed.
+   *
+   * <p>Speeds above <code>1</code> divide the divider, so the eyes take bigger steps, or take
+   * several steps per update while the divider is not used, see {@link #useDivider(boolean)}.
+   * Speeds below <code>1</code> skip updates instead, so an eye at a speed of <code>0.05</code>
+   * takes one step every 20 updates, however small its steps are. While the Larson Scanner is a
+   * member of a {@link ScannerGroup},
+   * its primary eye moves at the speed of the group instead. Sampling and mapping happen on a
+   * shared sampling thread, and updating the eyes only reads the latest speed. A metric or curve
+   * which throws keeps the previous speed. Binding another metric replaces the current binding.
+   *
+   * @param metric {@link DoubleSupplier} The metric to sample.
+   * @param sampleInterval {@link Long} The interval in milliseconds at which to sample the metric.
+   * @param curve {@link DoubleUnaryOperator} Maps a value of the metric to a speed.
+   * @throws IllegalArgumentException if the sample interval is smaller than 1.
+   * @author Griefed
+   */
+  public void bindSpeed(
+      @NotNull DoubleSupplier metric, long sampleInterval, @NotNull DoubleUnaryOperator curve)
+      throws IllegalArgumentException {
+    if (sampleInterval < 1) {
+      throw new IllegalArgumentException(
+          "Sample interval must be greater than 0. Specified " + sampleInterval);
+    } else {
+      EYE.bindSpeed(metric, sampleInterval, curve);
+    }
+  }
+
+  /**
+   * Bind the speed of the eye to a metric with whole values, such as the depth of a queue. For
+   * more information, see {@link #bindSpeed(DoubleSupplier, long, DoubleUnaryOperator)}.
+   *
+   * @param metric {@link LongSupplier} The metric to sample.
+   * @param sampleInterval {@link Long} The interval in milliseconds at which to sample the metric.
+   * @param curve {@link DoubleUnaryOperator} Maps a value of the metric to a speed.
+   * @throws IllegalArgumentException if the sample interval is smaller than 1.
+   * @author Griefed
+   */
+  public void bindSpeed(
+      @NotNull LongSupplier metric, long sampleInterval, @NotNull DoubleUnaryOperator curve)
+      throws IllegalArgumentException {
+    bindSpeed(() -> (double) metric.getAsLong(), sampleInterval, curve);
+  }
+
+  /**
+   * Stop sampling the metric bound with {@link #bindSpeed(DoubleSupplier, long,
+   * DoubleUnaryOperator)} and return the eye to the speed given by the divider.
+   *
+   * @author Griefed
+   */
+  public void unbindSpeed() {
+    EYE.unbindSpeed();
+  }
+
+  /**
+   * Get the speed of the eye, as last mapped from the metric bound with {@link
+   * #bindSpeed(DoubleSupplier, long, DoubleUnaryOperator)}.
+   *
+   * @return {@link Double} The current speed, <code>1</code> if no metric is bound.
+   * @author Griefed
+   */
+  public double getSpeed() {
+    return EYE.speed;
+  }
+
+  /**
+   * Get the thread shared by all Larson Scanners for sampling the metrics their speed is bound
+   * to, creating it on first use. The thread is a daemon, so it does not keep the application
+   * running.
+   *
+   * @return {@link ScheduledExecutorService} The shared sampling thread.
+   * @author Griefed
+   */
+  private static synchronized @NotNull ScheduledExecutorService speedSampler() {
+    if (speedSampler == null) {
+      speedSampler =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "LarsonScanner Speed");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return speedSampler;
+  }
+
+  /**
+   * Get the thread shared by all Larson Scanners for calibrating their rendering quality, creating
+   * it on first use. The thread is a daemon, so it does not keep the application running.
+   *
+   * @return {@link ExecutorService} The shared calibration thread.
+   * @author Griefed
+   */
+  private static synchronized @NotNull ExecutorService calibrator() {
+    if (calibrator == null) {
+      calibrator =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "LarsonScanner Calibration");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+              });
     }
+    return calibrator;
   }
 
   /**
@@ -699,7 +1027,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public float getGapPercent() {
-    return EYE.gapPercent;
+    return EYE.state.gapPercent;
   }
 
   /**
@@ -717,8 +1045,7 @@ public class LarsonScanner extends JPanel {
       throw new IllegalArgumentException(
           "Gap percent must be a positive, non-negative, number. Specified " + percentile);
     } else {
-      EYE.gapPercent = percentile;
-      EYE.setNewEyeValues();
+      EYE.update(config -> config.setGapPercent(percentile));
     }
   }
 
@@ -729,7 +1056,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public double getPartitionDivider() {
-    return EYE.partitionDivider;
+    return EYE.state.partitionDivider;
   }
 
   /**
@@ -747,11 +1074,163 @@ public class LarsonScanner extends JPanel {
       throw new IllegalArgumentException(
           "Partition Divider must be bigger than 0.0D. Specified " + partitionDivider);
     } else {
-      EYE.partitionDivider = partitionDivider;
-      EYE.setNewEyeValues();
+      EYE.update(config -> config.setPartitionDivider(partitionDivider));
+    }
+  }
+
+  /**
+   * Add another eye to the Larson Scanner. Additional eyes share the shape, number of elements,
+   * alphas, fractions, gradients, animation and easing of the primary eye, but scan in their own
+   * colour, at their own speed and from their own starting point. All eyes are moved by the same
+   * animator and painted in the same pass, so adding eyes does not add threads or components.
+   * Changes to the primary eye apply to all additional eyes right away, without transitions.
+   *
+   * @param colour {@link Color} The colour of all elements of the additional eye.
+   * @param divider {@link Short} The divider with which to in-/decrement the position of the
+   *     additional eye. See {@link #setDivider(short)}.
+   * @param phase {@link Double} Where the additional eye starts, as a fraction of the width of the
+   *     Larson Scanner, from <code>0</code> to <code>1</code>.
+   * @param reverse {@link Boolean} Whether the additional eye starts scanning from right to left.
+   * @throws IllegalArgumentException if the divider is smaller than 1 or the phase is not within
+   *     <code>0</code> to <code>1</code>.
+   * @author Griefed
+   */
+  public void addEye(@NotNull Color colour, short divider, double phase, boolean reverse)
+      throws IllegalArgumentException {
+    if (divider < 1) {
+      throw new IllegalArgumentException("Divider must be greater than 0. Specified " + divider);
+    } else if (!(phase >= 0.0D && phase <= 1.0D)) {
+      throw new IllegalArgumentException("Phase must be 0 to 1. Specified " + phase);
+    } else {
+      EYE.addSweep(new Sweep(colour, divider, phase, reverse));
+    }
+  }
+
+  /**
+   * Remove all eyes added with {@link #addEye(Color, short, double, boolean)}, leaving only the
+   * primary eye.
+   *
+   * @author Griefed
+   */
+  public void removeEyes() {
+    EYE.removeSweeps();
+  }
+
+  /**
+   * Get the number of eyes in the Larson Scanner, including the primary eye.
+   *
+   * @return {@link Integer} The number of eyes.
+   * @author Griefed
+   */
+  public int getNumberOfEyes() {
+    return EYE.sweeps.length + 1;
+  }
+
+  /**
+   * Get the group this Larson Scanner sweeps in lockstep with. For more information, see {@link
+   * ScannerGroup}.
+   *
+   * @return {@link ScannerGroup} The group of this Larson Scanner, or <code>null</code> if it is
+   *     not a member of any group.
+   * @author Griefed
+   */
+  public @Nullable ScannerGroup getScannerGroup() {
+    return EYE.group;
+  }
+
+  /**
+   * Get a snapshot of the frame timing of this Larson Scanner, telling whether the eye is updated
+   * and painted at the rate implied by its interval. For more information, see {@link
+   * FrameMetrics}.
+   *
+   * @return {@link FrameMetrics} The frame timing of this Larson Scanner since its creation.
+   * @author Griefed
+   */
+  public @NotNull FrameMetrics getFrameMetrics() {
+    return EYE.frameRecorder.snapshot();
+  }
+
+  /**
+   * Get a snapshot of the frame timing of all Larson Scanners together. For more information, see
+   * {@link FrameMetrics}.
+   *
+   * @return {@link FrameMetrics} The frame timing of all Larson Scanners since the first one was
+   *     created.
+   * @author Griefed
+   */
+  public static @NotNull FrameMetrics getAnimationMetrics() {
+    return ANIMATION_RECORDER.snapshot();
+  }
+
+  /**
+   * Limit the number of times per second the eye is updated and painted. The interval of the eye
+   * is stretched to at least <code>1000 / framesPerSecond</code> milliseconds, and the eye moves
+   * further per update accordingly, so it sweeps across the Larson Scanner in the same time, just
+   * in fewer frames. The limit is meant for throttling animations when the machine is busy.
+   * Members of a {@link ScannerGroup} are updated at the interval of the group instead.
+   *
+   * <p>Default setting: <code>0</code>, meaning no limit.
+   *
+   * @param framesPerSecond {@link Integer} The maximum number of frames per second, or <code>0
+   *     </code> for no limit.
+   * @throws IllegalArgumentException if the specified number of frames is smaller than 0.
+   * @author Griefed
+   */
+  public void setMaxFramesPerSecond(int framesPerSecond) throws IllegalArgumentException {
+    if (framesPerSecond < 0) {
+      throw new IllegalArgumentException(
+          "Max frames per second must be 0 or greater. Specified " + framesPerSecond);
+    } else {
+      EYE.minimumInterval =
+          framesPerSecond == 0 ? 0 : (short) Math.ceil(1000.0D / framesPerSecond);
+      EYE.maxFramesPerSecond = framesPerSecond;
     }
   }
 
+  /**
+   * Get the maximum number of frames per second. For more information, see {@link
+   * #setMaxFramesPerSecond(int)}.
+   *
+   * @return {@link Integer} The maximum number of frames per second, <code>0</code> if there is no
+   *     limit.
+   * @author Griefed
+   */
+  public int getMaxFramesPerSecond() {
+    return EYE.maxFramesPerSecond;
+  }
+
+  /**
+   * Register this Larson Scanner with the platform MBean server, so it can be monitored and
+   * controlled with any JMX client, such as JConsole or VisualVM. Its MBean is registered as
+   * <code>de.griefed.larsonscanner:type=LarsonScanner,name="&lt;name&gt;"</code>, see {@link
+   * ScannerMXBean}. Along with the first Larson Scanner, an MBean for all registered Larson
+   * Scanners is registered as <code>de.griefed.larsonscanner:type=LarsonScanner,name=All</code>,
+   * see {@link FleetMXBean}, which allows pausing or throttling all of them at once.
+   *
+   * <p>Registering a Larson Scanner which is registered already moves it to the new name.
+   * Registering it under the name it is registered under already changes nothing.
+   *
+   * @param name {@link String} The name to register this Larson Scanner under.
+   * @throws IllegalArgumentException if another Larson Scanner is registered under the name.
+   * @throws IllegalStateException if the MBean server refuses the MBean.
+   * @author Griefed
+   */
+  public void registerMBean(@NotNull String name)
+      throws IllegalArgumentException, IllegalStateException {
+    ScannerMBean.register(this, name);
+  }
+
+  /**
+   * Unregister this Larson Scanner from the platform MBean server. The MBean for all Larson
+   * Scanners is unregistered along with the last registered Larson Scanner. Unregistering a
+   * Larson Scanner which is not registered changes nothing.
+   *
+   * @author Griefed
+   */
+  public void unregisterMBean() {
+    ScannerMBean.unregister(this);
+  }
+
   /**
    * Pause the eye, freezing the animation.
    *
@@ -770,6 +1249,43 @@ public class LarsonScanner extends JPanel {
     EYE.playAnimation();
   }
 
+  /**
+   * Dispose of this Larson Scanner once it is not used anymore. Its animator thread ends, it
+   * leaves its {@link ScannerGroup}, its speed is unbound, its MBean is unregistered and the
+   * styles of its eyes are released, so nothing outside the Larson Scanner keeps it from being
+   * collected.
+   *
+   * <p>A disposed Larson Scanner can still be painted in its last state, but it can not be
+   * animated again, and changes to its settings are ignored. Disposing a Larson Scanner more than
+   * once changes nothing.
+   *
+   * <p>The animator thread only holds on to the Larson Scanner weakly, so it also ends once a
+   * Larson Scanner which was never disposed is collected. A group, a bound speed or a registered
+   * MBean keep the Larson Scanner from being collected though, until it is disposed.
+   *
+   * @author Griefed
+   */
+  public void dispose() {
+    ScannerGroup group = EYE.group;
+    if (group != null) {
+      group.remove(this);
+    }
+    unbindSpeed();
+    unregisterMBean();
+    EYE.dispose();
+    ANIMATOR_THREAD.interrupt();
+  }
+
+  /**
+   * Whether this Larson Scanner was disposed. See {@link #dispose()} for more information.
+   *
+   * @return {@link Boolean} <code>true</code> if this Larson Scanner was disposed.
+   * @author Griefed
+   */
+  public boolean isDisposed() {
+    return EYE.disposed;
+  }
+
   /**
    * Whether the eye is currently being animated. <code>false</code> if the eye is stopped.
    *
@@ -797,7 +1313,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public int getQualitySetting() {
-    return EYE.lastSetRenderingQuality;
+    return EYE.state.quality;
   }
 
   /**
@@ -821,7 +1337,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void setQualityHigh() {
-    EYE.setRenderingQualityHigh();
+    EYE.update(config -> config.setQualitySetting(ScannerConfig.HIGH));
   }
 
   /**
@@ -845,7 +1361,7 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void setQualityMedium() {
-    EYE.setRenderingQualityMedium();
+    EYE.update(config -> config.setQualitySetting(ScannerConfig.MEDIUM));
   }
 
   /**
@@ -869,111 +1385,218 @@ public class LarsonScanner extends JPanel {
    * @author Griefed
    */
   public void setQualityLow() {
-    EYE.setRenderingQualityLow();
+    EYE.update(config -> config.setQualitySetting(ScannerConfig.LOW));
   }
 
   /**
-   * Set the configuration of the Larson Scanner with values from the given config.
+   * Whether to calibrate the rendering quality of the eye the first time the Larson Scanner is
+   * shown. When calibrating, a short burst of frames is rendered offscreen with each of the low,
+   * medium and high quality settings, and the highest quality whose frames fit into the frame
+   * budget is selected. The frame budget is a quarter of the currently set interval, see {@link
+   * #setInterval(short)}.
    *
-   * @param config {@link ScannerConfig} The configuration from which to set the Larson Scanner
-   *     values.
-   * @throws IllegalArgumentException if any of the configured values is invalid.
+   * <p>The frames are rendered on a background thread shared by all Larson Scanners, so showing
+   * the Larson Scanner is not delayed by the calibration. Until it is done, the eye is painted at
+   * its current quality, and switches to the calibrated quality afterwards.
+   *
+   * <p>The result is cached for the lifetime of the JVM, per graphics configuration, shape,
+   * animation, number of elements, interval and size of the eye. Other Larson Scanners with the
+   * same style and size reuse it instead of running their own calibration.
+   *
+   * <p>Enabling calibration again calibrates at the next repaint. Qualities set with {@link
+   * #setQualityLow()}, {@link #setQualityMedium()} or {@link #setQualityHigh()} before the
+   * calibration happened are replaced by the calibrated quality.
+   *
+   * <p>Default setting: <code>false</code>
+   *
+   * @param calibrate {@link Boolean} Whether to calibrate the rendering quality.
    * @author Griefed
    */
-  public void loadConfig(@NotNull ScannerConfig config) throws IllegalArgumentException {
-    if (config.qualitySetting == ScannerConfig.LOW) {
-      setQualityLow();
-    } else if (config.qualitySetting == ScannerConfig.MEDIUM) {
-      setQualityMedium();
-    } else {
-      setQualityHigh();
-    }
-
-    setNumberOfElements(config.numberOfElements);
-    setAlphas(config.alphas);
-    setEyeColours(config.eyeColours);
-    setInterval(config.interval);
-    setDivider(config.divider);
-    setFractions(config.fractions[0], config.fractions[1]);
-    setGapPercent(config.gapPercent);
-    setPartitionDivider(config.partitionDivider);
-
-    forceAspectRatio(config.forceAspectRatio);
-    drawOval(config.ovalShaped);
-    useGradient(config.useGradients);
-    useDivider(config.useDivider);
-    useCylonAnimation(config.cylonAnimation);
-    setBackground(config.scannerBackgroundColour);
-    EYE.setBackground(config.eyeBackgroundColour);
+  public void useQualityCalibration(boolean calibrate) {
+    EYE.calibrateQuality = calibrate;
+    EYE.qualityCalibrated = false;
   }
 
   /**
-   * Load the default values into the Larson Scanner and eye, resetting it. See {@link
-   * #LarsonScanner()} for more information on what the defaults are.
+   * Whether the rendering quality is calibrated the first time the Larson Scanner is shown. See
+   * {@link #useQualityCalibration(boolean)} for more information.
    *
+   * @return {@link Boolean} <code>true</code> if the rendering quality is calibrated.
    * @author Griefed
    */
-  public void loadDefaults() {
-    setQualityLow();
-    setNumberOfElements((byte) 5);
-    setAlphas(new short[] {100, 200, 255, 200, 100});
-    setEyeColour(DEFAULT_EYE_COLOUR);
-    setInterval((short) 100);
-    setDivider((short) 25);
-    setFractions(0.4f, 1.0f);
-    setGapPercent(25.0f);
-    setPartitionDivider(5.0D);
-    forceAspectRatio(false);
-    drawOval(true);
-    useGradient(true);
-    useDivider(true);
-    useCylonAnimation(true);
-    setBackground(DEFAULT_BACKGROUND_COLOUR);
-    EYE.setBackground(DEFAULT_BACKGROUND_COLOUR);
+  public boolean isQualityCalibrationActive() {
+    return EYE.calibrateQuality;
   }
 
   /**
-   * Get the current Larson Scanner configuration as a ScannerConfig.
+   * Whether to draw a debug overlay on top of the eye, showing what the current settings cost:
    *
-   * @return {@link ScannerConfig} The current configuration of the Larson Scanner.
+   * <ul>
+   *   <li>the frames painted per second, compared to the frames per second the interval aims for
+   *   <li>the mean and 99th percentile of the time it takes to paint a frame
+   *   <li>the rendering quality
+   *   <li>how many of the sprites were found in the sprite cache, and how many sprites were
+   *       rendered or read from the sprite cache file so far
+   * </ul>
+   *
+   * <p>The numbers are updated once per second. The overlay is drawn after the time it took to
+   * paint a frame was recorded, so it does not count towards the numbers it shows.
+   *
+   * <p>Default setting: <code>false</code>
+   *
+   * @param overlay {@link Boolean} Whether to draw the debug overlay.
    * @author Griefed
    */
-  public ScannerConfig getCurrentConfig() {
-    return new ScannerConfig(
-        EYE.lastSetRenderingQuality,
-        EYE.alphas,
-        EYE.interval,
-        EYE.divider,
-        EYE.numberOfElements,
-        EYE.fractions,
-        EYE.gapPercent,
-        EYE.partitionDivider,
-        EYE.forceAspectRatio,
-        EYE.ovalShaped,
-        EYE.useGradients,
-        EYE.useDivider,
-        EYE.cylonAnimation,
-        EYE.eyeColours,
-        this.getBackground(),
-        EYE.getBackground());
+  public void useDebugOverlay(boolean overlay) {
+    EYE.debugOverlay = overlay ? new DebugOverlay() : null;
+    EYE.repaint();
   }
 
   /**
-   * Convenience-class with which to change or acquire the configuration of the LarsonScanner.
+   * Whether the debug overlay is drawn on top of the eye. See {@link #useDebugOverlay(boolean)}
+   * for more information.
    *
+   * @return {@link Boolean} <code>true</code> if the debug overlay is drawn.
    * @author Griefed
    */
-  public static class ScannerConfig {
+  public boolean isDebugOverlayActive() {
+    return EYE.debugOverlay != null;
+  }
 
-    /** Set the rendering quality of the Larson Scanner to low settings. */
-    public static final int LOW = 0;
+  /**
+   * Persist the sprites of the elements of all Larson Scanners to the given cache file. Sprites
+   * are identified by a hash of the settings they are rendered with, their size and the rendering
+   * quality, so a later launch with the same settings reads the sprites from the cache file
+   * instead of rendering them again. This mostly speeds up the start of applications which show a
+   * lot of Larson Scanners at once on slow machines.
+   *
+   * <p>The cache file is created if it does not exist, and started anew if it was written by an
+   * incompatible version. If the cache file can not be read from or written to, sprites are
+   * rendered as usual. Sprites already acquired by a Larson Scanner are not affected by changing
+   * the cache file.
+   *
+   * @param cacheFile {@link Path} The cache file to use, or <code>null</code> to stop using a
+   *     cache file.
+   * @author Griefed
+   */
+  public static synchronized void useSpriteCacheFile(@Nullable Path cacheFile) {
+    if (spriteStore != null) {
+      spriteStore.close();
+    }
+    spriteStore = cacheFile == null ? null : new SpriteStore(cacheFile);
+  }
 
-    /** Set the rendering quality of the Larson Scanner to medium settings. */
+  /**
+   * Get the cache file the sprites of the elements of all Larson Scanners are persisted to.
+   *
+   * @return {@link Path} The cache file in use, or <code>null</code> if no cache file is used.
+   * @author Griefed
+   */
+  public static @Nullable Path getSpriteCacheFile() {
+    SpriteStore store = spriteStore;
+    return store == null ? null : store.cacheFile;
+  }
+
+  /**
+   * Set the configuration of the Larson Scanner with values from the given config.
+   *
+   * @param config {@link ScannerConfig} The configuration from which to set the Larson Scanner
+   *     values.
+   * @throws IllegalArgumentException if any of the configured values is invalid.
+   * @author Griefed
+   */
+  public void loadConfig(@NotNull ScannerConfig config) throws IllegalArgumentException {
+    EYE.apply(config);
+    setBackground(config.scannerBackgroundColour);
+  }
+
+  /**
+   * Smoothly transition the Larson Scanner to the given configuration over the given duration.
+   * Colours, alphas, the interval, the divider, the gap between elements and the partition divider
+   * are interpolated from the current configuration, while all other settings take effect right
+   * away. Getters return the values of the given configuration as soon as the transition starts.
+   *
+   * <p>If the number of elements or the orientation differs from the current configuration, or
+   * the duration is zero, the configuration is applied right away, just like with {@link
+   * #loadConfig(ScannerConfig)}.
+   * Changing any setting of the Larson Scanner while a transition is running ends the transition.
+   *
+   * @param config {@link ScannerConfig} The configuration to transition to.
+   * @param duration {@link Duration} How long the transition should take.
+   * @throws IllegalArgumentException if any of the configured values is invalid, or if the
+   *     duration is negative.
+   * @author Griefed
+   */
+  public void transitionTo(@NotNull ScannerConfig config, @NotNull Duration duration)
+      throws IllegalArgumentException {
+    if (duration.isNegative()) {
+      throw new IllegalArgumentException("Duration must not be negative. Specified " + duration);
+    }
+
+    EYE.transitionTo(config, duration.toNanos());
+    setBackground(config.scannerBackgroundColour);
+  }
+
+  /**
+   * Load the default values into the Larson Scanner and eye, resetting it. See {@link
+   * #LarsonScanner()} for more information on what the defaults are.
+   *
+   * @author Griefed
+   */
+  public void loadDefaults() {
+    loadConfig(new ScannerConfig());
+  }
+
+  /**
+   * Get the current Larson Scanner configuration as a ScannerConfig.
+   *
+   * @return {@link ScannerConfig} The current configuration of the Larson Scanner.
+   * @author Griefed
+   */
+  public ScannerConfig getCurrentConfig() {
+    return EYE.state.toConfig(this.getBackground());
+  }
+
+  /**
+   * Convenience-class with which to change or acquire the configuration of the LarsonScanner.
+   *
+   * <p>The easing profiles and orientations are the ones of the {@link ScannerEngine}, so code
+   * driving an engine without AWT or Swing may use them from there.
+   *
+   * @author Griefed
+   */
+  public static class ScannerConfig {
+
+    /** Set the rendering quality of the Larson Scanner to low settings. */
+    public static final int LOW = 0;
+
+    /** Set the rendering quality of the Larson Scanner to medium settings. */
     public static final int MEDIUM = 1;
 
     /** Set the rendering quality of the Larson Scanner to high settings. */
     public static final int HIGH = 2;
 
+    /** Move the eye at a constant speed. */
+    public static final int EASING_LINEAR = ScannerEngine.EASING_LINEAR;
+
+    /** Accelerate and decelerate the eye along a sine curve. */
+    public static final int EASING_SINE = ScannerEngine.EASING_SINE;
+
+    /** Accelerate and decelerate the eye along a cubic curve. */
+    public static final int EASING_CUBIC = ScannerEngine.EASING_CUBIC;
+
+    /** Move the eye at a constant speed, decelerating only shortly before either edge. */
+    public static final int EASING_KITT = ScannerEngine.EASING_KITT;
+
+    /** Scan from left to right and back. */
+    public static final int ORIENTATION_HORIZONTAL = ScannerEngine.ORIENTATION_HORIZONTAL;
+
+    /** Scan from top to bottom and back. */
+    public static final int ORIENTATION_VERTICAL = ScannerEngine.ORIENTATION_VERTICAL;
+
+    /** Scan along a ring, clockwise starting at the top. */
+    public static final int ORIENTATION_RING = ScannerEngine.ORIENTATION_RING;
+
     private final float[] fractions = {0.4f, 1.0f};
     private Color[] eyeColours = {
       DEFAULT_EYE_COLOUR,
@@ -986,6 +1609,11 @@ public class LarsonScanner extends JPanel {
     private Color eyeBackgroundColour = DEFAULT_BACKGROUND_COLOUR;
     private float gapPercent = 25.0f;
     private int qualitySetting = LOW;
+    private int easing = EASING_LINEAR;
+    private int orientation = ORIENTATION_HORIZONTAL;
+    private boolean afterglow = false;
+    private AnimationModel animationModel = null;
+    private ShapeRenderer shapeRenderer = null;
     private short[] alphas = {100, 200, 255, 200, 100};
     private short interval = 100;
     private short divider = 25;
@@ -1497,1047 +2125,4363 @@ public class LarsonScanner extends JPanel {
     public void setEyeBackgroundColour(@NotNull Color eyeBackgroundColour) {
       this.eyeBackgroundColour = eyeBackgroundColour;
     }
-  }
-
-  /**
-   * The heart and soul of the Larson Scanner, the eye. This is the element which is being drawn and
-   * animated within the panel of the LarsonScanner itself.
-   *
-   * @author Griefed
-   */
-  private class Eye extends JComponent implements Runnable {
-
-    private final RenderingHints renderingHints =
-        new RenderingHints(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
-    private final float[] fractions = {0.4f, 1.0f};
-    private volatile boolean paused = true;
-    private Color[] eyeColours = {
-      DEFAULT_EYE_COLOUR,
-      DEFAULT_EYE_COLOUR,
-      DEFAULT_EYE_COLOUR,
-      DEFAULT_EYE_COLOUR,
-      DEFAULT_EYE_COLOUR
-    };
-    private float gapPercent = 25.0f;
-    private double width;
-    private double height;
-    private double elementWidth;
-    private double partition;
-    private double gapWidth;
-    private double totalGapWidth;
-    private double halfOfTotalGapWidth;
-    private double partitionDivider = 5.0D;
-    private int lastSetRenderingQuality = 0;
-    private short[] alphas = {100, 200, 255, 200, 100};
-    private short p;
-    private short interval = 100;
-    private short divider = 25;
-    private byte numberOfElements = 5;
-    private boolean increasePosition = true;
-    private boolean forceAspectRatio = false;
-    private boolean ovalShaped = true;
-    private boolean useGradients = true;
-    private boolean useDivider = true;
-    private boolean cylonAnimation = true;
 
     /**
-     * Default constructor for our eye, setting the background colour to black, the rendering
-     * quality to low and the interval of the timer to a default value of 100ms.
+     * Get this configurations' easing profile.
      *
+     * @return {@link Integer} Integer representation of the easing profile.
      * @author Griefed
      */
-    public Eye() {
-      super();
-      setDoubleBuffered(true);
-      setBackground(DEFAULT_BACKGROUND_COLOUR);
-      setRenderingQualityLow();
+    public int getEasing() {
+      return easing;
     }
 
     /**
-     * Convenience constructor for an eye. This allows you to set the interval in ms at which the
-     * eye is being drawn.
+     * Set this configurations' easing profile. Either {@link #EASING_LINEAR}, {@link
+     * #EASING_SINE}, {@link #EASING_CUBIC} or {@link #EASING_KITT}. For more information, see
+     * {@link LarsonScanner#setEasing(int)}.
      *
-     * @param updateInterval {@link Short} Interval in milliseconds at which to scroll.
+     * @param easing {@link Integer} Integer representation of the easing profile.
+     * @throws IllegalArgumentException if the specified easing profile is not 0, 1, 2 or 3.
      * @author Griefed
      */
-    public Eye(short updateInterval) {
-      super();
-      this.interval = updateInterval;
-      setDoubleBuffered(true);
-      setBackground(DEFAULT_BACKGROUND_COLOUR);
-      setRenderingQualityLow();
+    public void setEasing(int easing) throws IllegalArgumentException {
+      if (easing < EASING_LINEAR || easing > EASING_KITT) {
+        throw new IllegalArgumentException("Easing must be 0, 1, 2 or 3. Specified " + easing);
+      } else {
+        this.easing = easing;
+      }
     }
 
     /**
-     * Convenience constructor for an eye. This allows you to set the interval in ms at which the
-     * eye is being drawn as well as the background of the eye.
+     * Whether the eye of this configuration leaves an afterglow trail.
      *
-     * @param updateInterval {@link Short} Interval in milliseconds at which to scroll.
-     * @param backgroundColor {@link Color} The background colour for the scanner and the eye.
+     * @return {@link Boolean} Whether the eye leaves an afterglow trail.
      * @author Griefed
      */
-    public Eye(short updateInterval, @NotNull Color backgroundColor) {
-      super();
-      this.interval = updateInterval;
-      setDoubleBuffered(true);
-      setBackground(backgroundColor);
-      setRenderingQualityLow();
+    public boolean isAfterglowActive() {
+      return afterglow;
     }
 
     /**
-     * Convenience constructor for an eye. This allows you to set the interval in ms at which the
-     * eye is being drawn, the background of the eye, as well as the colour of the eye.
+     * Set whether the eye of this configuration should leave an afterglow trail. For more
+     * information, see {@link LarsonScanner#useAfterglow(boolean)}.
      *
-     * @param updateInterval {@link Short} Interval in milliseconds at which to scroll.
-     * @param backgroundColor {@link Color} The background colour for the scanner and the eye.
-     * @param eyeColor {@link Color} The color of the eye.
+     * @param afterglow {@link Boolean} Whether the eye should leave an afterglow trail.
      * @author Griefed
      */
-    public Eye(short updateInterval, @NotNull Color backgroundColor, @NotNull Color eyeColor) {
-      super();
-      this.interval = updateInterval;
-      setDoubleBuffered(true);
-      setEyeColour(eyeColor);
-      setBackground(backgroundColor);
-      setRenderingQualityLow();
+    public void setUseAfterglow(boolean afterglow) {
+      this.afterglow = afterglow;
     }
 
     /**
-     * Animate the eye! This method gets called after the thread is created in the constructor of
-     * the parent {@link LarsonScanner} and started from there.
-     *
-     * <p>By setting <code>paused</code> to either true or false you can pause or unpause the
-     * animation respectively.
-     *
-     * <p>If the animation is not paused, the position of the eye gets updated by calling {@link
-     * #updatePosition()} and then the eye gets drawn.
+     * Get this configurations' orientation.
      *
+     * @return {@link Integer} Integer representation of the orientation.
      * @author Griefed
      */
-    @Override
-    public void run() {
-      //noinspection InfiniteLoopStatement
-      while (true) {
-        try {
-          //noinspection BusyWait
-          Thread.sleep(EYE.interval);
-
-          if (paused) {
-            synchronized (this) {
-              while (paused) wait();
-            }
-          }
-        } catch (InterruptedException ignored) {
-        }
-        EYE.updatePosition();
-        EYE.repaint();
-      }
+    public int getOrientation() {
+      return orientation;
     }
 
     /**
-     * Draw the eye! Depending on whether oval shape is selected or gradients are to be used, the
-     * eye is drawn in different ways. However, all draw calls come from here. I guess you could say
-     * that this is the heart and soul of the eye itself. The eyeball, mayhaps? For details on how
-     * each animation behaves, see {@link LarsonScanner#useCylonAnimation(boolean)}.
+     * Set this configurations' orientation. Either {@link #ORIENTATION_HORIZONTAL}, {@link
+     * #ORIENTATION_VERTICAL} or {@link #ORIENTATION_RING}. For more information, see {@link
+     * LarsonScanner#setOrientation(int)}.
      *
-     * @param g the <code>Graphics</code> object to protect
+     * @param orientation {@link Integer} Integer representation of the orientation.
+     * @throws IllegalArgumentException if the specified orientation is not 0, 1 or 2.
      * @author Griefed
      */
-    @Override
-    protected void paintComponent(Graphics g) {
-      super.paintComponent(g);
-
-      updateValues();
-
-      Graphics2D g2d = (Graphics2D) g;
-      g2d.setRenderingHints(renderingHints);
-
-      byte startY = 0;
-
-      g2d.setColor(this.getBackground());
-      g2d.fillRect(0, 0, (int) width, (int) height);
-
-      if (ovalShaped) {
-
-        if (cylonAnimation) {
-
-          drawCylonOval(g2d, startY);
-
-        } else {
-
-          drawKittOval(g2d, startY);
-        }
-
+    public void setOrientation(int orientation) throws IllegalArgumentException {
+      if (orientation < ORIENTATION_HORIZONTAL || orientation > ORIENTATION_RING) {
+        throw new IllegalArgumentException(
+            "Orientation must be 0, 1 or 2. Specified " + orientation);
       } else {
-
-        if (cylonAnimation) {
-
-          drawCylonRect(g2d, startY);
-
-        } else {
-
-          drawKittRect(g2d, startY);
-        }
+        this.orientation = orientation;
       }
-      g2d.drawRect(-10, -10, (int) width+20, (int) height+20);
-      Toolkit.getDefaultToolkit().sync();
     }
 
     /**
-     * Pause the animation of the eye.
+     * Get this configurations' custom animation model.
      *
+     * @return {@link AnimationModel} The custom animation model, or <code>null</code> if the
+     *     built-in model selected by {@link #isCylonAnimation()} is used.
      * @author Griefed
      */
-    private synchronized void pauseAnimation() {
-      paused = true;
+    public @Nullable AnimationModel getAnimationModel() {
+      return animationModel;
     }
 
     /**
-     * Continue the animation of the eye.
+     * Set a custom animation model for this configuration. For more information, see {@link
+     * LarsonScanner#setAnimationModel(AnimationModel)}.
      *
+     * @param animationModel {@link AnimationModel} The custom animation model, or <code>null
+     *     </code> to use the built-in model selected by {@link #isCylonAnimation()}.
      * @author Griefed
      */
-    private synchronized void playAnimation() {
-      paused = false;
-      notify();
+    public void setAnimationModel(@Nullable AnimationModel animationModel) {
+      this.animationModel = animationModel;
     }
 
     /**
-     * Toggle the current state of the animation.
-     *
-     * <p>If the animation is paused, then invoking this will unpause it.
-     *
-     * <p>If the animation is not paused, then invoking this will pause it.
+     * Get this configurations' custom shape renderer.
      *
+     * @return {@link ShapeRenderer} The custom shape renderer, or <code>null</code> if the
+     *     built-in renderer selected by {@link #isShapeOval()} is used.
      * @author Griefed
      */
-    private synchronized void togglePauseUnpause() {
-      paused = !paused;
-
-      if (!paused) {
-        notify();
-      }
+    public @Nullable ShapeRenderer getShapeRenderer() {
+      return shapeRenderer;
     }
 
     /**
-     * Get the current status of the animation, whether it is paused or not.
+     * Set a custom shape renderer for this configuration. For more information, see {@link
+     * LarsonScanner#setShapeRenderer(ShapeRenderer)}.
      *
-     * @return {@link Boolean} Status of the animation. <code>true</code> if it is paused, false
-     *     otherwise.
+     * @param shapeRenderer {@link ShapeRenderer} The custom shape renderer, or <code>null</code>
+     *     to use the built-in renderer selected by {@link #isShapeOval()}.
      * @author Griefed
      */
-    private synchronized boolean isRunning() {
-      return paused;
+    public void setShapeRenderer(@Nullable ShapeRenderer shapeRenderer) {
+      this.shapeRenderer = shapeRenderer;
     }
 
     /**
-     * Set the rendering quality with which the eye is being drawn to high.
+     * Get the animation model this configuration animates the eye with: the custom model, if one
+     * is set, otherwise the built-in model selected by {@link #isCylonAnimation()}.
      *
+     * @return {@link AnimationModel} The animation model to use.
      * @author Griefed
      */
-    private void setRenderingQualityHigh() {
-      lastSetRenderingQuality = 2;
-      renderingHints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-      renderingHints.put(
-          RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
-
-      renderingHints.put(
-          RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_QUALITY);
-
-      renderingHints.put(
-          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-
-      renderingHints.put(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    private @NotNull AnimationModel resolveAnimationModel() {
+      if (animationModel != null) {
+        return animationModel;
+      }
+      return cylonAnimation ? AnimationModel.CYLON : AnimationModel.KITT;
     }
 
     /**
-     * Set the rendering quality with which the eye is being drawn to medium.
+     * Get the shape renderer this configuration draws the elements with: the custom renderer, if
+     * one is set, otherwise the built-in renderer selected by {@link #isShapeOval()}.
      *
+     * @return {@link ShapeRenderer} The shape renderer to use.
      * @author Griefed
      */
-    private void setRenderingQualityMedium() {
-      lastSetRenderingQuality = 1;
-      renderingHints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_DEFAULT);
-
-      renderingHints.put(
-          RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_DEFAULT);
-
-      renderingHints.put(
-          RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_DEFAULT);
-
-      renderingHints.put(
-          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-
-      renderingHints.put(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_DEFAULT);
+    private @NotNull ShapeRenderer resolveShapeRenderer() {
+      if (shapeRenderer != null) {
+        return shapeRenderer;
+      }
+      return ovalShaped ? ShapeRenderer.OVAL : ShapeRenderer.RECTANGLE;
     }
+  }
 
-    /**
-     * Set the rendering quality with which the eye is being drawn to low. Default with which a new
-     * eye is instantiated.
-     *
-     * @author Griefed
-     */
-    private void setRenderingQualityLow() {
-      lastSetRenderingQuality = 0;
-      renderingHints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
-
-      renderingHints.put(
-          RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED);
-
-      renderingHints.put(
-          RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_SPEED);
-
-      renderingHints.put(
-          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+  /**
+   * Sweeps the eyes of any number of Larson Scanners in lockstep. Once per tick, the group reads
+   * the time from one clock, derives the phase of the sweep from it and hands said phase to every
+   * member, which scales it to its own width. Members of a group are not moved by their own
+   * animator, so the work of moving the eyes happens once per tick for the whole group, on one
+   * thread, and the scanners can not drift apart.
+   *
+   * <p>A full sweep from one side to the other takes <code>interval * divider</code>
+   * milliseconds. As the phase is derived from the time passed since the group was created, a
+   * tick happening late does not delay the following ones. While a Larson Scanner is a member of
+   * a group, its own interval, divider and transitions of the divider have no effect on its
+   * primary eye. Additional eyes keep moving at their own speed. Pausing a member freezes it,
+   * and playing it again snaps its eye back into the phase of the group.
+   *
+   * <p>The thread of the group is started when the first Larson Scanner is added and ends once
+   * the last one is removed.
+   *
+   * @author Griefed
+   */
+  public static final class ScannerGroup {
 
-      renderingHints.put(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
-    }
+    private final long epoch = System.nanoTime();
+    private final long sweepNanos;
+    private final short interval;
+    private final short divider;
+    private volatile Eye[] members = new Eye[0];
+    private Thread thread = null;
 
     /**
-     * Set new colours for each element in the eye.
+     * Create a group with the default interval of 100ms and the default divider of 25, so a full
+     * sweep takes two and a half seconds.
      *
-     * @param colours {@link Color}-array consisting one colour for each element in the eye.
      * @author Griefed
      */
-    private void setEyeColours(@NotNull Color @NotNull [] colours) {
-      eyeColours = colours;
+    public ScannerGroup() {
+      this((short) 100, (short) 25);
     }
 
     /**
-     * Set the same colour for every element in the eye.
+     * Create a group which updates its members at the given interval and sweeps from one side to
+     * the other in the given number of updates.
      *
-     * @param color {@link Color} The color to set for each element in the eye.
+     * @param interval {@link Short} The interval in milliseconds at which to update the members.
+     * @param divider {@link Short} The number of updates a sweep from one side to the other takes.
+     * @throws IllegalArgumentException if the interval or the divider is smaller than 1.
      * @author Griefed
      */
-    private void setEyeColour(@NotNull Color color) {
-      Color[] newColours = new Color[numberOfElements];
-      for (int i = 0; i < numberOfElements; i++) {
-        newColours[i] = color;
+    public ScannerGroup(short interval, short divider) throws IllegalArgumentException {
+      if (interval < 1) {
+        throw new IllegalArgumentException(
+            "Interval must be greater than 0. Specified " + interval);
+      } else if (divider < 1) {
+        throw new IllegalArgumentException("Divider must be greater than 0. Specified " + divider);
       }
-      eyeColours = newColours;
+      this.interval = interval;
+      this.divider = divider;
+      this.sweepNanos = (long) interval * divider * 1_000_000L;
     }
 
     /**
-     * Update the width, height, partitioning and element width.
-     *
-     * <p>If the aspect ratio is being enforced, then the height of the eye are set to the width of
-     * one element, resulting in a 1:1 aspect ratio.<br>
-     * Otherwise, the width and height of the eye are set to the width and height of the
-     * encompassing Larson Scanner.
-     *
-     * <p>If a change in width or height was detected, the size of the eye, the partitioning and the
-     * element width are updated.
+     * Add a Larson Scanner to this group. A Larson Scanner can only be a member of one group at a
+     * time, so it leaves any other group it is a member of first. Adding a member twice changes
+     * nothing.
      *
+     * @param larsonScanner {@link LarsonScanner} The Larson Scanner to add.
      * @author Griefed
      */
-    private void updateValues() {
-      boolean updated = false;
-
-      if (forceAspectRatio) {
-
-        if (width != LarsonScanner.this.getWidth()
-            || height != partition / (double) numberOfElements) {
-
-          width = LarsonScanner.this.getWidth();
-          height = partition / (double) numberOfElements;
-          updated = true;
-        }
-
-      } else {
-
-        if (width != LarsonScanner.this.getWidth()) {
+    public void add(@NotNull LarsonScanner larsonScanner) {
+      Eye eye = larsonScanner.EYE;
+      if (eye.disposed) {
+        return;
+      }
+      ScannerGroup previous = eye.group;
+      if (previous != null && previous != this) {
+        previous.remove(larsonScanner);
+      }
 
-          width = LarsonScanner.this.getWidth();
-          updated = true;
+      synchronized (this) {
+        for (Eye member : members) {
+          if (member == eye) {
+            return;
+          }
         }
 
-        if (height != LarsonScanner.this.getHeight()) {
+        Eye[] grown = Arrays.copyOf(members, members.length + 1);
+        grown[members.length] = eye;
+        members = grown;
+        eye.joinGroup(this);
 
-          height = LarsonScanner.this.getHeight();
-          updated = true;
+        if (thread == null) {
+          thread = new Thread(this::animate, "LarsonScanner Group");
+          thread.setDaemon(true);
+          thread.start();
         }
       }
-
-      if (updated) {
-
-        setNewEyeValues();
-      }
     }
 
     /**
-     * Set the new values for the eyes
-     * <li>Size with width and height
-     * <li>partitioning of the eye
-     * <li>width of a single element in the eye
-     * <li>width of the pag between two elements when drawing as rectangles
-     * <li>total width of all gaps when drawing as rectangles
-     * <li>half of the total width of all gaps when drawing as rectangles
+     * Remove a Larson Scanner from this group. Its eye continues from where the group left it, at
+     * the interval and divider of the Larson Scanner. Removing a Larson Scanner which is not a
+     * member of this group changes nothing.
      *
+     * @param larsonScanner {@link LarsonScanner} The Larson Scanner to remove.
      * @author Griefed
      */
-    private void setNewEyeValues() {
-      setSize((int) width, (int) height);
-
-      // The eye itself is to be a fifth of the whole width
-      partition = width / partitionDivider;
-      elementWidth = partition / (double) numberOfElements;
-
-      gapWidth = elementWidth / 100.0D * gapPercent;
-      totalGapWidth = gapWidth * (numberOfElements - 2);
-      halfOfTotalGapWidth = totalGapWidth / 2.0D;
+    public synchronized void remove(@NotNull LarsonScanner larsonScanner) {
+      Eye eye = larsonScanner.EYE;
+      for (int index = 0; index < members.length; index++) {
+        if (members[index] == eye) {
+          Eye[] shrunk = new Eye[members.length - 1];
+          System.arraycopy(members, 0, shrunk, 0, index);
+          System.arraycopy(members, index + 1, shrunk, index, shrunk.length - index);
+          members = shrunk;
+          eye.leaveGroup(this);
+          return;
+        }
+      }
     }
 
     /**
-     * Draw our elements in oval shape. If <code>useGradient</code> is set, then gradients are used
-     * for painting, otherwise our ovals are painted with solid colours. For details on how this
-     * animation behaves, see {@link LarsonScanner#useCylonAnimation(boolean)}.
+     * Get the number of Larson Scanners in this group.
      *
-     * @param g2d {@link Graphics2D} to fill and draw with.
-     * @param startY {@link Byte} The play of an element along the Y-axis.
+     * @return {@link Integer} The number of members.
      * @author Griefed
      */
-    private void drawCylonOval(@NotNull Graphics2D g2d, byte startY) {
-
-      for (byte element = 0; element < numberOfElements; element++) {
-
-        double startOfElement = calcCylonOvalStart(element);
-
-        if (useGradients) {
-          g2d.setPaint(
-              cylonRadialGradient(element, getCenter(startOfElement), eyeColours[element]));
-        } else {
-          g2d.setColor(eyeColours[element]);
-        }
-
-        g2d.fillOval((int) startOfElement, startY, (int) elementWidth, (int) height);
-      }
+    public int getNumberOfScanners() {
+      return members.length;
     }
 
     /**
-     * Calculate the Y-coordinate of the center of the element currently being drawn.
-     *
-     * <p>Divide the width of an element by two and add that to the play of the current element
-     * being drawn.
+     * Get the interval at which this group updates its members.
      *
-     * @param start {@link Double} The play point of the element currently being drawn.
-     * @return {@link Double} The Y-coordinate of the center of the element currently being drawn.
+     * @return {@link Short} The interval in milliseconds.
      * @author Griefed
      */
-    private double getCenter(double start) {
-      return start + elementWidth / 2.0D;
+    public short getInterval() {
+      return interval;
     }
 
     /**
-     * Calculate the play of an element in oval shape. Steps are:
-     *
-     * <ul>
-     *   <li>Multiply the width of one element with the number of elements in the eye. Divide by two
-     *   <li>multiply the width of one element with the number of the element currently being drawn
-     *       (0 to total number of elements in the eye)
-     *   <li>add the values from above together
-     *   <li>subtract the above value from the current position in the eye being drawn at
-     * </ul>
-     *
-     * <p>The element width multiplied with the number of elements, then divided by two, gives the
-     * half of the total width of the eye itself. Added to that the width of one element, multiplied
-     * with the number of the current element being drawn in the eye, and we get the play of the eye
-     * we are currently drawing. To put this into relation along the width of the whole Larson
-     * Scanner, we need to subtract that value from the current position along the Larson Scanners
-     * total width.
+     * Get the number of updates a sweep from one side to the other takes.
      *
-     * @param element {@link Byte} The number of the currently being drawn element, ranging from 0
-     *     to the amount of elements in the eye.
-     * @return {@link Double} The X-coordinate where the current element starts.
+     * @return {@link Short} The divider of this group.
      * @author Griefed
      */
-    private double calcCylonOvalStart(byte element) {
-      return p
-          - (elementWidth * (double) numberOfElements / 2.0D)
-          + elementWidth * (double) element;
+    public short getDivider() {
+      return divider;
+    }
+
+    /**
+     * Animate the members of this group until none are left. The sweep number and the phase
+     * within the sweep are derived from the time passed since the group was created, with even
+     * sweeps going from left to right and odd sweeps going back.
+     *
+     * <p>If the thread of this group is interrupted, every member leaves the group and continues on
+     * its own, and the thread ends with its interrupt flag restored. Adding a Larson Scanner
+     * afterwards starts a new thread.
+     *
+     * @author Griefed
+     */
+    private void animate() {
+      while (true) {
+        Eye[] members;
+        synchronized (this) {
+          members = this.members;
+          if (members.length == 0) {
+            thread = null;
+            return;
+          }
+        }
+
+        double cycle = (System.nanoTime() - epoch) / (double) sweepNanos;
+        long sweep = (long) cycle;
+        boolean increasing = (sweep & 1L) == 0L;
+        double phase = increasing ? cycle - sweep : 1.0D - (cycle - sweep);
+
+        for (Eye member : members) {
+          member.follow(this, phase, increasing);
+        }
+
+        try {
+          //noinspection BusyWait
+          Thread.sleep(interval);
+        } catch (InterruptedException interrupted) {
+          synchronized (this) {
+            for (Eye member : this.members) {
+              member.leaveGroup(this);
+            }
+            this.members = new Eye[0];
+            thread = null;
+          }
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * A snapshot of the frame timing of one Larson Scanner, or of all Larson Scanners together. See
+   * {@link LarsonScanner#getFrameMetrics()} and {@link LarsonScanner#getAnimationMetrics()}.
+   *
+   * <p>A tick is one update of the position of the eye. Ideally, every tick is followed by one
+   * painted frame. When painting can not keep up, Swing coalesces the repaints of several ticks
+   * into one frame, so the eye skips positions. A tick is late if it happens more than half of
+   * the interval after it was due. Jitter is the difference between the actual and the expected
+   * time between two ticks, in either direction.
+   *
+   * <p>The counters of a snapshot are read one after another while recording continues, so the
+   * counters of a snapshot taken while the eyes are animated may be off by the ticks and frames
+   * happening in between.
+   *
+   * @author Griefed
+   */
+  public static final class FrameMetrics {
+
+    private final long ticks;
+    private final long lateTicks;
+    private final long framesPainted;
+    private final long framesCoalesced;
+    private final long tickCpuTime;
+    private final Histogram tickJitter;
+    private final Histogram paintDuration;
+
+    private FrameMetrics(
+        long ticks,
+        long lateTicks,
+        long framesPainted,
+        long framesCoalesced,
+        long tickCpuTime,
+        @NotNull Histogram tickJitter,
+        @NotNull Histogram paintDuration) {
+      this.ticks = ticks;
+      this.lateTicks = lateTicks;
+      this.framesPainted = framesPainted;
+      this.framesCoalesced = framesCoalesced;
+      this.tickCpuTime = tickCpuTime;
+      this.tickJitter = tickJitter;
+      this.paintDuration = paintDuration;
+    }
+
+    /**
+     * Get the number of times the position of the eye was updated.
+     *
+     * @return {@link Long} The number of ticks.
+     * @author Griefed
+     */
+    public long getTicks() {
+      return ticks;
+    }
+
+    /**
+     * Get the number of ticks which happened more than half of the interval after they were due.
+     *
+     * @return {@link Long} The number of late ticks.
+     * @author Griefed
+     */
+    public long getLateTicks() {
+      return lateTicks;
+    }
+
+    /**
+     * Get the number of frames painted.
+     *
+     * @return {@link Long} The number of painted frames.
+     * @author Griefed
+     */
+    public long getFramesPainted() {
+      return framesPainted;
+    }
+
+    /**
+     * Get the number of ticks whose frame was never painted, because its repaint was coalesced
+     * with the repaint of the following tick.
+     *
+     * @return {@link Long} The number of skipped frames.
+     * @author Griefed
+     */
+    public long getFramesCoalesced() {
+      return framesCoalesced;
+    }
+
+    /**
+     * Get the CPU time spent updating the position of the eye. It is measured as the CPU time of
+     * the animating thread, see {@link ThreadMXBean#getCurrentThreadCpuTime()}, or as elapsed
+     * time if the JVM does not measure the CPU time of threads.
+     *
+     * @return {@link Long} The CPU time spent ticking, in nanoseconds.
+     * @author Griefed
+     */
+    public long getTickCpuTime() {
+      return tickCpuTime;
+    }
+
+    /**
+     * Get the time spent painting the eye on the Event Dispatch Thread, measured from the start to
+     * the end of every painted frame.
+     *
+     * @return {@link Long} The time spent painting, in nanoseconds.
+     * @author Griefed
+     */
+    public long getPaintTime() {
+      return paintDuration.sum;
+    }
+
+    /**
+     * Get the total time spent animating the eye, ticking and painting together. Compare it
+     * between Larson Scanners to find out which of their settings are expensive.
+     *
+     * @return {@link Long} The time spent ticking and painting, in nanoseconds.
+     * @author Griefed
+     */
+    public long getCpuTime() {
+      return tickCpuTime + paintDuration.sum;
+    }
+
+    /**
+     * Get the distribution of the jitter of the ticks, in nanoseconds.
+     *
+     * @return {@link Histogram} The jitter of the ticks.
+     * @author Griefed
+     */
+    public @NotNull Histogram getTickJitter() {
+      return tickJitter;
+    }
+
+    /**
+     * Get the distribution of the time it took to paint a frame, in nanoseconds.
+     *
+     * @return {@link Histogram} The duration of painting a frame.
+     * @author Griefed
+     */
+    public @NotNull Histogram getPaintDuration() {
+      return paintDuration;
+    }
+
+    /**
+     * A snapshot of a distribution of durations in nanoseconds, counted in buckets whose bounds
+     * double from one bucket to the next. Bucket <code>0</code> counts durations below 2ns, bucket
+     * <code>n</code> counts durations from <code>2^n</code> up to, but excluding, <code>2^(n+1)
+     * </code> nanoseconds, and the last bucket counts everything above that.
+     *
+     * @author Griefed
+     */
+    public static final class Histogram {
+
+      /** Number of buckets in every histogram, covering durations of up to about 9 minutes. */
+      public static final int BUCKETS = 40;
+
+      private final long[] counts;
+      private final long count;
+      private final long sum;
+      private final long max;
+
+      private Histogram(long[] counts, long sum, long max) {
+        long count = 0L;
+        for (long bucket : counts) {
+          count += bucket;
+        }
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+      }
+
+      /**
+       * Get the bucket a duration is counted in.
+       *
+       * @param nanos {@link Long} The duration in nanoseconds.
+       * @return {@link Integer} The number of the bucket.
+       * @author Griefed
+       */
+      private static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, Math.max(0, 63 - Long.numberOfLeadingZeros(nanos)));
+      }
+
+      /**
+       * Get the number of recorded durations.
+       *
+       * @return {@link Long} The number of recorded durations.
+       * @author Griefed
+       */
+      public long getCount() {
+        return count;
+      }
+
+      /**
+       * Get the longest recorded duration.
+       *
+       * @return {@link Long} The longest duration in nanoseconds, <code>0</code> if none was
+       *     recorded.
+       * @author Griefed
+       */
+      public long getMax() {
+        return max;
+      }
+
+      /**
+       * Get the mean of the recorded durations.
+       *
+       * @return {@link Double} The mean duration in nanoseconds, <code>0</code> if none was
+       *     recorded.
+       * @author Griefed
+       */
+      public double getMean() {
+        return count == 0L ? 0.0D : (double) sum / count;
+      }
+
+      /**
+       * Get the number of durations counted in a bucket.
+       *
+       * @param bucket {@link Integer} The number of the bucket, from <code>0</code> to {@link
+       *     #BUCKETS} minus one.
+       * @return {@link Long} The number of durations counted in the bucket.
+       * @author Griefed
+       */
+      public long getBucketCount(int bucket) {
+        return counts[bucket];
+      }
+
+      /**
+       * Get the exclusive upper bound of a bucket.
+       *
+       * @param bucket {@link Integer} The number of the bucket, from <code>0</code> to {@link
+       *     #BUCKETS} minus one.
+       * @return {@link Long} The upper bound of the bucket in nanoseconds, {@link Long#MAX_VALUE}
+       *     for the last bucket.
+       * @author Griefed
+       */
+      public long getBucketUpperBound(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 2L << bucket;
+      }
+
+      /**
+       * Estimate a percentile of the recorded durations. The estimate is the upper bound of the
+       * bucket the percentile falls into, but never more than the longest recorded duration.
+       *
+       * @param percentile {@link Double} The percentile to estimate, from <code>0</code> to <code>1
+       *     </code>.
+       * @return {@link Long} The estimated duration in nanoseconds, <code>0</code> if none was
+       *     recorded.
+       * @throws IllegalArgumentException if the percentile is not within <code>0</code> to <code>1
+       *     </code>.
+       * @author Griefed
+       */
+      public long getPercentile(double percentile) throws IllegalArgumentException {
+        if (!(percentile >= 0.0D && percentile <= 1.0D)) {
+          throw new IllegalArgumentException("Percentile must be 0 to 1. Specified " + percentile);
+        }
+
+        long rank = (long) Math.ceil(percentile * count);
+        long seen = 0L;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+          seen += counts[bucket];
+          if (seen >= rank && seen > 0L) {
+            return Math.min(max, getBucketUpperBound(bucket));
+          }
+        }
+        return max;
+      }
+    }
+  }
+
+  /**
+   * Monitoring and control of one Larson Scanner over JMX. See {@link
+   * LarsonScanner#registerMBean(String)}.
+   *
+   * <p>Rates and paint times are averaged over the time since the previous read, but at least
+   * over one second. Reading them more often returns the previous average.
+   *
+   * @author Griefed
+   */
+  public interface ScannerMXBean {
+
+    /**
+     * Get the number of frames painted per second.
+     *
+     * @return {@link Double} The recent number of frames painted per second.
+     * @author Griefed
+     */
+    double getFramesPerSecond();
+
+    /**
+     * Get the mean time it took to paint a frame.
+     *
+     * @return {@link Double} The recent mean paint time in milliseconds.
+     * @author Griefed
+     */
+    double getPaintTimeMillis();
+
+    /**
+     * Get the number of frames painted since the Larson Scanner was created.
+     *
+     * @return {@link Long} The number of painted frames.
+     * @author Griefed
+     */
+    long getFramesPainted();
+
+    /**
+     * Get the time spent ticking and painting since the Larson Scanner was created. See {@link
+     * FrameMetrics#getCpuTime()}.
+     *
+     * @return {@link Double} The time spent ticking and painting, in milliseconds.
+     * @author Griefed
+     */
+    double getCpuTimeMillis();
+
+    /**
+     * Get the number of ticks whose frame was never painted. See {@link
+     * FrameMetrics#getFramesCoalesced()}.
+     *
+     * @return {@link Long} The number of skipped frames.
+     * @author Griefed
+     */
+    long getFramesCoalesced();
+
+    /**
+     * Get the number of late ticks. See {@link FrameMetrics#getLateTicks()}.
+     *
+     * @return {@link Long} The number of late ticks.
+     * @author Griefed
+     */
+    long getLateTicks();
+
+    /**
+     * Whether the animation is paused.
+     *
+     * @return {@link Boolean} <code>true</code> if the animation is paused.
+     * @author Griefed
+     */
+    boolean isPaused();
+
+    /**
+     * Get the rendering quality. See {@link LarsonScanner#getQualitySetting()}.
+     *
+     * @return {@link Integer} The rendering quality.
+     * @author Griefed
+     */
+    int getQuality();
+
+    /**
+     * Set the rendering quality. Either {@link ScannerConfig#LOW}, {@link ScannerConfig#MEDIUM} or
+     * {@link ScannerConfig#HIGH}.
+     *
+     * @param quality {@link Integer} The rendering quality.
+     * @throws IllegalArgumentException if the quality is not 0, 1 or 2.
+     * @author Griefed
+     */
+    void setQuality(int quality) throws IllegalArgumentException;
+
+    /**
+     * Get the maximum number of frames per second. See {@link
+     * LarsonScanner#setMaxFramesPerSecond(int)}.
+     *
+     * @return {@link Integer} The maximum number of frames per second, <code>0</code> if there is
+     *     no limit.
+     * @author Griefed
+     */
+    int getMaxFramesPerSecond();
+
+    /**
+     * Set the maximum number of frames per second. See {@link
+     * LarsonScanner#setMaxFramesPerSecond(int)}.
+     *
+     * @param framesPerSecond {@link Integer} The maximum number of frames per second, or <code>0
+     *     </code> for no limit.
+     * @throws IllegalArgumentException if the number of frames is smaller than 0.
+     * @author Griefed
+     */
+    void setMaxFramesPerSecond(int framesPerSecond) throws IllegalArgumentException;
+
+    /**
+     * Pause the animation.
+     *
+     * @author Griefed
+     */
+    void pause();
+
+    /**
+     * Resume the animation.
+     *
+     * @author Griefed
+     */
+    void resume();
+  }
+
+  /**
+   * Monitoring and control of all Larson Scanners registered with the platform MBean server over
+   * JMX. See {@link LarsonScanner#registerMBean(String)}.
+   *
+   * @author Griefed
+   */
+  public interface FleetMXBean {
+
+    /**
+     * Get the number of registered Larson Scanners.
+     *
+     * @return {@link Integer} The number of registered Larson Scanners.
+     * @author Griefed
+     */
+    int getNumberOfScanners();
+
+    /**
+     * Get the number of registered Larson Scanners whose animation is paused.
+     *
+     * @return {@link Integer} The number of paused Larson Scanners.
+     * @author Griefed
+     */
+    int getPausedScanners();
+
+    /**
+     * Get the number of frames painted per second by all registered Larson Scanners together.
+     *
+     * @return {@link Double} The recent number of frames painted per second.
+     * @author Griefed
+     */
+    double getFramesPerSecond();
+
+    /**
+     * Get the mean time it took to paint a frame, across all registered Larson Scanners.
+     *
+     * @return {@link Double} The recent mean paint time in milliseconds.
+     * @author Griefed
+     */
+    double getPaintTimeMillis();
+
+    /**
+     * Get the maximum number of frames per second last set for all registered Larson Scanners.
+     * Larson Scanners registered afterwards are limited to it as well.
+     *
+     * @return {@link Integer} The maximum number of frames per second, <code>0</code> if there is
+     *     no limit.
+     * @author Griefed
+     */
+    int getMaxFramesPerSecond();
+
+    /**
+     * Limit the number of frames per second of all registered Larson Scanners. See {@link
+     * LarsonScanner#setMaxFramesPerSecond(int)}.
+     *
+     * @param framesPerSecond {@link Integer} The maximum number of frames per second, or <code>0
+     *     </code> for no limit.
+     * @throws IllegalArgumentException if the number of frames is smaller than 0.
+     * @author Griefed
+     */
+    void setMaxFramesPerSecond(int framesPerSecond) throws IllegalArgumentException;
+
+    /**
+     * Set the rendering quality of all registered Larson Scanners. Either {@link
+     * ScannerConfig#LOW}, {@link ScannerConfig#MEDIUM} or {@link ScannerConfig#HIGH}.
+     *
+     * @param quality {@link Integer} The rendering quality.
+     * @throws IllegalArgumentException if the quality is not 0, 1 or 2.
+     * @author Griefed
+     */
+    void useQualityForAll(int quality) throws IllegalArgumentException;
+
+    /**
+     * Pause the animations of all registered Larson Scanners.
+     *
+     * @author Griefed
+     */
+    void pauseAll();
+
+    /**
+     * Resume the animations of all registered Larson Scanners.
+     *
+     * @author Griefed
+     */
+    void resumeAll();
+  }
+
+  /**
+   * Renders the sprite of one element of an eye. Sprites are rendered once per look and size, and
+   * blitted on every frame afterwards, so rendering may be as expensive as it needs to be. The
+   * built-in renderers are {@link #OVAL} and {@link #RECTANGLE}.
+   *
+   * <p>Sprites of the built-in renderers are written to the sprite cache file, if one is in use.
+   * Sprites of any other renderer are only held in memory, as there is no way of telling whether
+   * a renderer renders the same sprites in a later launch.
+   *
+   * @author Griefed
+   */
+  public interface ShapeRenderer {
+
+    /** Sprite variant for elements drawn with solid colours. */
+    byte VARIANT_SOLID = AnimationModel.Layout.VARIANT_SOLID;
+
+    /** Sprite variant for elements drawn with the gradients of the Cylon-animation. */
+    byte VARIANT_CYLON = AnimationModel.Layout.VARIANT_CYLON;
+
+    /** Sprite variant for elements drawn with the gradients of the Kitt-animation. */
+    byte VARIANT_KITT = AnimationModel.Layout.VARIANT_KITT;
+
+    /** Oval elements filled with radial gradients, laid out without gaps. */
+    ShapeRenderer OVAL = new OvalRenderer();
+
+    /** Rectangular elements filled with linear gradients, laid out with gaps between them. */
+    ShapeRenderer RECTANGLE = new RectangleRenderer();
+
+    /**
+     * Get whether elements of this shape are laid out with gaps between them. See {@link
+     * LarsonScanner#setGapPercent(float)}.
+     *
+     * @return {@link Boolean} <code>true</code> if elements are laid out with gaps.
+     * @author Griefed
+     */
+    boolean hasGaps();
+
+    /**
+     * Render the sprite of an element. The graphics has the rendering hints of the rendering
+     * quality of the eye set and covers exactly the sprite, with the X-axis running along the
+     * track.
+     *
+     * @param g2d {@link Graphics2D} to render the sprite with.
+     * @param palette {@link Palette} The colours of the eye.
+     * @param variant {@link Byte} The sprite variant to render. Either {@link #VARIANT_SOLID},
+     *     {@link #VARIANT_CYLON} or {@link #VARIANT_KITT}.
+     * @param element {@link Byte} The number of the element to render.
+     * @param spriteWidth {@link Integer} The width of the sprite in device pixels.
+     * @param spriteHeight {@link Integer} The height of the sprite in device pixels.
+     * @author Griefed
+     */
+    void render(
+        @NotNull Graphics2D g2d,
+        @NotNull Palette palette,
+        byte variant,
+        byte element,
+        int spriteWidth,
+        int spriteHeight);
+
+    /**
+     * The colours of an eye, from which the sprites of its elements are rendered.
+     *
+     * @author Griefed
+     */
+    interface Palette {
+
+      /**
+       * Get the number of elements in the eye.
+       *
+       * @return {@link Byte} The number of elements.
+       * @author Griefed
+       */
+      byte getNumberOfElements();
+
+      /**
+       * Get the solid colour of an element.
+       *
+       * @param element {@link Byte} The number of the element.
+       * @return {@link Color} The colour of the element.
+       * @author Griefed
+       */
+      @NotNull
+      Color getEyeColour(byte element);
+
+      /**
+       * Get the colour of an element with its alpha applied.
+       *
+       * @param element {@link Byte} The number of the element.
+       * @return {@link Color} The colour of the element with its alpha.
+       * @author Griefed
+       */
+      @NotNull
+      Color getAlphaColour(byte element);
+
+      /**
+       * Get the colour of an element with half of its alpha applied.
+       *
+       * @param element {@link Byte} The number of the element.
+       * @return {@link Color} The colour of the element with half of its alpha.
+       * @author Griefed
+       */
+      @NotNull
+      Color getFadedAlphaColour(byte element);
+
+      /**
+       * Get the colour of an element in the Kitt-animation, whose alpha increases with the number
+       * of the element.
+       *
+       * @param element {@link Byte} The number of the element.
+       * @return {@link Color} The Kitt-colour of the element.
+       * @author Griefed
+       */
+      @NotNull
+      Color getKittColour(byte element);
+
+      /**
+       * Get the background colour of the eye.
+       *
+       * @return {@link Color} The background colour of the eye.
+       * @author Griefed
+       */
+      @NotNull
+      Color getBackground();
+
+      /**
+       * Get the fractions of the gradients of the eye. The returned array must not be modified.
+       *
+       * @return {@link Float}-array The fractions of the gradients.
+       * @author Griefed
+       */
+      float[] getFractions();
+    }
+  }
+
+  /**
+   * The built-in oval shape. Elements are filled with radial gradients extending from the centre
+   * of the sprite to its height.
+   *
+   * @author Griefed
+   */
+  private static final class OvalRenderer implements ShapeRenderer {
+
+    @Override
+    public boolean hasGaps() {
+      return false;
+    }
+
+    @Override
+    public void render(
+        @NotNull Graphics2D g2d,
+        @NotNull Palette palette,
+        byte variant,
+        byte element,
+        int spriteWidth,
+        int spriteHeight) {
+
+      if (variant == VARIANT_SOLID) {
+
+        g2d.setColor(palette.getEyeColour(element));
+
+      } else {
+
+        Color[] colors = {
+          variant == VARIANT_CYLON
+              ? palette.getAlphaColour(element)
+              : palette.getKittColour(element),
+          palette.getBackground()
+        };
+        g2d.setPaint(
+            new RadialGradientPaint(
+                new Point2D.Double(spriteWidth / 2.0D, spriteHeight / 2.0D),
+                0.5f * spriteHeight,
+                palette.getFractions(),
+                colors));
+      }
+
+      g2d.fillOval(0, 0, spriteWidth, spriteHeight);
+    }
+  }
+
+  /**
+   * The built-in rectangular shape. Every gradient is drawn from the left edge of the sprite, at
+   * half of its height, to the right edge, so elements look the same wherever they are drawn.
+   *
+   * <ul>
+   *   <li>Cylon-animation: elements to the left of the centre element increase in colour intensity
+   *       towards the centre of the eye, elements to the right of it decrease. The centre element
+   *       is solid.
+   *   <li>Kitt-animation: elements have gradients with increased alpha, so less transparency, the
+   *       further they are from the start of the eye.
+   * </ul>
+   *
+   * @author Griefed
+   */
+  private static final class RectangleRenderer implements ShapeRenderer {
+
+    @Override
+    public boolean hasGaps() {
+      return true;
+    }
+
+    @Override
+    public void render(
+        @NotNull Graphics2D g2d,
+        @NotNull Palette palette,
+        byte variant,
+        byte element,
+        int spriteWidth,
+        int spriteHeight) {
+
+      if (variant == VARIANT_SOLID) {
+
+        g2d.setColor(palette.getEyeColour(element));
+
+      } else if (variant == VARIANT_KITT) {
+
+        g2d.setPaint(
+            gradient(
+                palette.getKittColour(element),
+                palette.getKittColour(element),
+                spriteWidth,
+                spriteHeight));
+
+      } else {
+        int median = (palette.getNumberOfElements() + 1) / 2;
+
+        if (element + 1 < median) {
+
+          g2d.setPaint(
+              gradient(
+                  palette.getFadedAlphaColour(element),
+                  palette.getAlphaColour(element),
+                  spriteWidth,
+                  spriteHeight));
+
+        } else if (element + 1 == median) {
+
+          g2d.setPaint(palette.getEyeColour(element));
+
+        } else {
+
+          g2d.setPaint(
+              gradient(
+                  palette.getAlphaColour(element),
+                  palette.getFadedAlphaColour(element),
+                  spriteWidth,
+                  spriteHeight));
+        }
+      }
+
+      g2d.fillRect(0, 0, spriteWidth, spriteHeight);
+    }
+
+    /**
+     * Create a gradient from the left edge of a sprite to its right edge.
+     *
+     * @param left {@link Color} The colour at the left edge.
+     * @param right {@link Color} The colour at the right edge.
+     * @param spriteWidth {@link Integer} The width of the sprite in device pixels.
+     * @param spriteHeight {@link Integer} The height of the sprite in device pixels.
+     * @return {@link GradientPaint} The gradient.
+     * @author Griefed
+     */
+    @Contract("_, _, _, _ -> new")
+    private static @NotNull GradientPaint gradient(
+        @NotNull Color left, @NotNull Color right, int spriteWidth, int spriteHeight) {
+      return new GradientPaint(
+          0.0f, spriteHeight / 2.0f, left, (float) spriteWidth, spriteHeight / 2.0f, right);
+    }
+  }
+
+  /**
+   * Immutable look of the elements of an eye: their number, shape, colours, alphas, fractions, the
+   * background of the eye and the rendering quality, together with the colour tables, rendering
+   * hints and sprites derived from them. Eyes with the same look share one style, so any number
+   * of identical Larson Scanners only ever hold one set of colour tables and sprites.
+   *
+   * <p>Styles are registered while they are in use and counted by the states referencing them.
+   * Acquiring a style for a look which is already registered returns the registered style, and a
+   * style is unregistered once the last state referencing it was released.
+   *
+   * @author Griefed
+   */
+  private static final class Style implements ShapeRenderer.Palette {
+
+    private static final Map<Style, Style> STYLES = new HashMap<>();
+
+    private static final RenderingHints[] QUALITY_HINTS = {
+      qualityHints(
+          RenderingHints.VALUE_ANTIALIAS_OFF,
+          RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED,
+          RenderingHints.VALUE_COLOR_RENDER_SPEED,
+          RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR,
+          RenderingHints.VALUE_RENDER_SPEED),
+      qualityHints(
+          RenderingHints.VALUE_ANTIALIAS_DEFAULT,
+          RenderingHints.VALUE_ALPHA_INTERPOLATION_DEFAULT,
+          RenderingHints.VALUE_COLOR_RENDER_DEFAULT,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR,
+          RenderingHints.VALUE_RENDER_DEFAULT),
+      qualityHints(
+          RenderingHints.VALUE_ANTIALIAS_ON,
+          RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY,
+          RenderingHints.VALUE_COLOR_RENDER_QUALITY,
+          RenderingHints.VALUE_INTERPOLATION_BICUBIC,
+          RenderingHints.VALUE_RENDER_QUALITY)
+    };
+
+    /**
+     * The rendering hints which matter when painting a frame from the sprites. Alpha interpolation
+     * and colour rendering are only stored by the graphics Java2D hands out, so setting them would
+     * create a map of hints for every frame without changing what is painted. Sprites are
+     * rendered with all rendering hints of the style.
+     */
+    private static final RenderingHints.Key[] PAINT_HINT_KEYS = {
+      RenderingHints.KEY_ANTIALIASING,
+      RenderingHints.KEY_INTERPOLATION,
+      RenderingHints.KEY_RENDERING
+    };
+
+    private final RenderingHints renderingHints;
+    private final Color[] eyeColours;
+    private final Color[] alphaColours;
+    private final Color[] fadedAlphaColours;
+    private final Color[] kittColours;
+    private final Color background;
+    private final float[] fractions;
+    private final int quality;
+    private final short[] alphas;
+    private final byte numberOfElements;
+    private final ShapeRenderer renderer;
+    private final long spriteHash;
+    private final SpriteCache spriteCache = new SpriteCache();
+    private int references = 0;
+
+    /**
+     * Create a style from the given configuration, validating the settings of the look and
+     * deriving the colour tables from them. Arrays of the configuration are copied, so changing
+     * the configuration afterwards does not affect the style. When neither the colours nor the
+     * alphas differ from the given previous style, its colour tables are used.
+     *
+     * @param config {@link ScannerConfig} The configuration to create the style from.
+     * @param previous {@link Style} The style of the state being replaced, or <code>null</code>
+     *     if there is none.
+     * @throws IllegalArgumentException if the number of alphas or colours does not match the
+     *     number of elements, or if any of the alphas is not in the range of <code>0</code> to
+     *     <code>255</code>.
+     * @author Griefed
+     */
+    private Style(@NotNull ScannerConfig config, @Nullable Style previous)
+        throws IllegalArgumentException {
+      numberOfElements = config.numberOfElements;
+
+      if (config.alphas.length != numberOfElements) {
+        throw new IllegalArgumentException(
+            "Alpha-array must contain exactly "
+                + numberOfElements
+                + " entries. Specified "
+                + config.alphas.length);
+
+      } else if (config.eyeColours.length != numberOfElements) {
+        throw new IllegalArgumentException(
+            "Color-array must contain exactly "
+                + numberOfElements
+                + " entries. Specified "
+                + config.eyeColours.length);
+      }
+
+      quality = config.qualitySetting;
+      renderingHints = QUALITY_HINTS[quality];
+      alphas = config.alphas.clone();
+      eyeColours = config.eyeColours.clone();
+      fractions = config.fractions.clone();
+      background = config.eyeBackgroundColour;
+      renderer = config.resolveShapeRenderer();
+
+      if (previous != null
+          && Arrays.equals(alphas, previous.alphas)
+          && Arrays.equals(eyeColours, previous.eyeColours)) {
+
+        alphaColours = previous.alphaColours;
+        fadedAlphaColours = previous.fadedAlphaColours;
+        kittColours = previous.kittColours;
+
+      } else {
+
+        alphaColours = new Color[numberOfElements];
+        fadedAlphaColours = new Color[numberOfElements];
+        kittColours = new Color[numberOfElements];
+        for (byte element = 0; element < numberOfElements; element++) {
+          alphaColours[element] = colorWithAlpha(alphas[element], eyeColours[element]);
+          fadedAlphaColours[element] =
+              colorWithAlpha((short) (alphas[element] - alphas[element] / 2), eyeColours[element]);
+          kittColours[element] =
+              colorWithAlpha(
+                  (short) (255.0D / numberOfElements * (double) (element + 1)),
+                  eyeColours[element]);
+        }
+      }
+
+      long hash = SpriteStore.hash(SpriteStore.FNV_OFFSET_BASIS, quality);
+      hash = SpriteStore.hash(hash, numberOfElements);
+      hash =
+          SpriteStore.hash(
+              hash,
+              renderer == ShapeRenderer.OVAL
+                  ? 1
+                  : renderer == ShapeRenderer.RECTANGLE ? 0 : System.identityHashCode(renderer));
+      hash = SpriteStore.hash(hash, background.getRGB());
+      for (float fraction : fractions) {
+        hash = SpriteStore.hash(hash, Float.floatToIntBits(fraction));
+      }
+      for (byte element = 0; element < numberOfElements; element++) {
+        hash = SpriteStore.hash(hash, alphas[element]);
+        hash = SpriteStore.hash(hash, eyeColours[element].getRGB());
+      }
+      spriteHash = hash;
+    }
+
+    /**
+     * Acquire the style for the look of the given configuration, counting the caller as one more
+     * user of it. If a style with the same look is registered already, said style is returned.
+     * Every acquired style must be released with {@link #release()} once it is not used anymore.
+     *
+     * @param config {@link ScannerConfig} The configuration to acquire the style for.
+     * @param previous {@link Style} The style of the state being replaced, or <code>null</code>
+     *     if there is none.
+     * @return {@link Style} The shared style for the look of the configuration.
+     * @throws IllegalArgumentException if the configuration is invalid.
+     * @author Griefed
+     */
+    private static @NotNull Style acquire(@NotNull ScannerConfig config, @Nullable Style previous)
+        throws IllegalArgumentException {
+      Style candidate;
+      if (previous != null && previous.matches(config)) {
+        candidate = previous;
+      } else {
+        candidate = new Style(config, previous);
+      }
+
+      synchronized (STYLES) {
+        Style style = STYLES.get(candidate);
+        if (style == null) {
+          STYLES.put(candidate, candidate);
+          style = candidate;
+        }
+        style.references++;
+        return style;
+      }
+    }
+
+    /**
+     * Release this style, unregistering it once it is not used by any state anymore.
+     *
+     * @author Griefed
+     */
+    private void release() {
+      synchronized (STYLES) {
+        if (--references == 0 && STYLES.get(this) == this) {
+          STYLES.remove(this);
+        }
+      }
+    }
+
+    /**
+     * Check whether this style has the look of the given configuration.
+     *
+     * @param config {@link ScannerConfig} The configuration to compare this style to.
+     * @return {@link Boolean} <code>true</code> if the look of this style matches the
+     *     configuration.
+     * @author Griefed
+     */
+    private boolean matches(@NotNull ScannerConfig config) {
+      return quality == config.qualitySetting
+          && numberOfElements == config.numberOfElements
+          && renderer == config.resolveShapeRenderer()
+          && background.equals(config.eyeBackgroundColour)
+          && Arrays.equals(fractions, config.fractions)
+          && Arrays.equals(alphas, config.alphas)
+          && Arrays.equals(eyeColours, config.eyeColours);
+    }
+
+    /**
+     * Styles are equal if they have the same look, so styles can be used as keys for finding a
+     * registered style with the same look.
+     *
+     * @param other {@link Object} The object to compare this style to.
+     * @return {@link Boolean} <code>true</code> if the other object is a style with the same look.
+     * @author Griefed
+     */
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (!(other instanceof Style)) {
+        return false;
+      }
+
+      Style style = (Style) other;
+      return spriteHash == style.spriteHash
+          && quality == style.quality
+          && numberOfElements == style.numberOfElements
+          && renderer == style.renderer
+          && background.equals(style.background)
+          && Arrays.equals(fractions, style.fractions)
+          && Arrays.equals(alphas, style.alphas)
+          && Arrays.equals(eyeColours, style.eyeColours);
+    }
+
+    /**
+     * The hash code of a style is derived from the hash of its look.
+     *
+     * @return {@link Integer} The hash code of this style.
+     * @author Griefed
+     */
+    @Override
+    public int hashCode() {
+      return (int) (spriteHash ^ (spriteHash >>> 32));
+    }
+
+    @Override
+    public byte getNumberOfElements() {
+      return numberOfElements;
+    }
+
+    @Override
+    public @NotNull Color getEyeColour(byte element) {
+      return eyeColours[element];
+    }
+
+    @Override
+    public @NotNull Color getAlphaColour(byte element) {
+      return alphaColours[element];
+    }
+
+    @Override
+    public @NotNull Color getFadedAlphaColour(byte element) {
+      return fadedAlphaColours[element];
+    }
+
+    @Override
+    public @NotNull Color getKittColour(byte element) {
+      return kittColours[element];
+    }
+
+    @Override
+    public @NotNull Color getBackground() {
+      return background;
+    }
+
+    @Override
+    public float[] getFractions() {
+      return fractions;
+    }
+
+    /**
+     * Apply the rendering hints of this style which matter when painting a frame to the given
+     * graphics, one hint at a time and only where the graphics do not use the hint already.
+     * Unlike {@link Graphics2D#setRenderingHints(Map)}, this does not copy the hints into a new
+     * map, so painting a frame allocates nothing for them.
+     *
+     * @param g2d {@link Graphics2D} to apply the rendering hints to.
+     * @author Griefed
+     */
+    private void applyPaintHints(@NotNull Graphics2D g2d) {
+      for (RenderingHints.Key key : PAINT_HINT_KEYS) {
+        Object value = renderingHints.get(key);
+        if (g2d.getRenderingHint(key) != value) {
+          g2d.setRenderingHint(key, value);
+        }
+      }
+    }
+
+    /**
+     * Create the rendering hints for one of the rendering quality presets.
+     *
+     * @param antialiasing Value for {@link RenderingHints#KEY_ANTIALIASING}.
+     * @param alphaInterpolation Value for {@link RenderingHints#KEY_ALPHA_INTERPOLATION}.
+     * @param colorRendering Value for {@link RenderingHints#KEY_COLOR_RENDERING}.
+     * @param interpolation Value for {@link RenderingHints#KEY_INTERPOLATION}.
+     * @param rendering Value for {@link RenderingHints#KEY_RENDERING}.
+     * @return {@link RenderingHints} The rendering hints of the preset.
+     * @author Griefed
+     */
+    private static @NotNull RenderingHints qualityHints(
+        @NotNull Object antialiasing,
+        @NotNull Object alphaInterpolation,
+        @NotNull Object colorRendering,
+        @NotNull Object interpolation,
+        @NotNull Object rendering) {
+      RenderingHints hints = new RenderingHints(RenderingHints.KEY_ANTIALIASING, antialiasing);
+      hints.put(RenderingHints.KEY_ALPHA_INTERPOLATION, alphaInterpolation);
+      hints.put(RenderingHints.KEY_COLOR_RENDERING, colorRendering);
+      hints.put(RenderingHints.KEY_INTERPOLATION, interpolation);
+      hints.put(RenderingHints.KEY_RENDERING, rendering);
+      return hints;
+    }
+
+    /**
+     * Set the alpha value for the given colour. The alpha value must be a number in the range of
+     * <code>0</code> to <code>255</code>.
+     *
+     * @param alpha {@link Short} Alpha value to set with the given colour. Ranging from <code>0
+     *     </code> to <code>255</code>.
+     * @param color {@link Color} Color to set the alpha value for.
+     * @return {@link Color} The color with the alpha value set.
+     * @throws IllegalArgumentException if the specified alpha-value is smaller than <code>0</code>
+     *     or greater than <code>255</code>.
+     * @author Griefed
+     */
+    @Contract("_, _ -> new")
+    private static @NotNull Color colorWithAlpha(short alpha, @NotNull Color color)
+        throws IllegalArgumentException {
+      if (alpha < 0 || alpha > 255) {
+        throw new IllegalArgumentException("Alpha must be 0 to 255. Specified " + alpha);
+      }
+      return new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+    }
+  }
+
+  /**
+   * Immutable snapshot of the settings of the eye. The look of the elements is held by a shared
+   * {@link Style}, whose colour tables and rendering hints are available from the state as well.
+   * The eye holds exactly one state at a time and replaces it as a whole whenever a setting
+   * changes, so the animator and painting always see either all or none of the settings of a
+   * configuration, never a mix of both.
+   *
+   * <p>A state is validated as a whole when it is created, so a configuration which would fail
+   * while painting is rejected before any of its settings are applied. Every state acquires its
+   * style when it is created, which must be released once the state is not used anymore.
+   *
+   * @author Griefed
+   */
+  private static final class EyeState {
+
+    private final Style style;
+    private final RenderingHints renderingHints;
+    private final Color[] eyeColours;
+    private final Color[] alphaColours;
+    private final Color[] fadedAlphaColours;
+    private final Color[] kittColours;
+    private final Color background;
+    private final float[] fractions;
+    private final float gapPercent;
+    private final double partitionDivider;
+    private final int quality;
+    private final int easing;
+    private final int orientation;
+    private final short[] alphas;
+    private final short interval;
+    private final short divider;
+    private final byte numberOfElements;
+    private final boolean forceAspectRatio;
+    private final boolean ovalShaped;
+    private final boolean useGradients;
+    private final boolean useDivider;
+    private final boolean cylonAnimation;
+    private final boolean afterglow;
+    private final boolean gapped;
+    private final AnimationModel animationModel;
+    private final ShapeRenderer shapeRenderer;
+    private final AnimationModel model;
+    private final ShapeRenderer renderer;
+    private final EyeState geometrySource;
+
+    /**
+     * Create a new state of the eye from the given configuration, validating the configuration as
+     * a whole and acquiring the style for its look.
+     *
+     * <p>When a previous state is given, only the data affected by the settings which differ from
+     * the previous state is derived anew. The style of the previous state is kept as long as the
+     * look does not change, and its geometry remains valid as long as none of the settings it
+     * depends on changed. See {@link #sameGeometry(EyeState)}.
+     *
+     * @param config {@link ScannerConfig} The configuration to create the state from.
+     * @param previous {@link EyeState} The state this state replaces, or <code>null</code> if there
+     *     is none.
+     * @throws IllegalArgumentException if the number of alphas or colours does not match the
+     *     number of elements, or if any of the alphas is not in the range of <code>0</code> to
+     *     <code>255</code>.
+     * @author Griefed
+     */
+    private EyeState(@NotNull ScannerConfig config, @Nullable EyeState previous)
+        throws IllegalArgumentException {
+      style = Style.acquire(config, previous == null ? null : previous.style);
+      renderingHints = style.renderingHints;
+      eyeColours = style.eyeColours;
+      alphaColours = style.alphaColours;
+      fadedAlphaColours = style.fadedAlphaColours;
+      kittColours = style.kittColours;
+      background = style.background;
+      fractions = style.fractions;
+      quality = style.quality;
+      alphas = style.alphas;
+      numberOfElements = style.numberOfElements;
+      renderer = style.renderer;
+      gapped = renderer.hasGaps();
+
+      gapPercent = config.gapPercent;
+      partitionDivider = config.partitionDivider;
+      interval = config.interval;
+      divider = config.divider;
+      forceAspectRatio = config.forceAspectRatio;
+      ovalShaped = config.ovalShaped;
+      useGradients = config.useGradients;
+      useDivider = config.useDivider;
+      cylonAnimation = config.cylonAnimation;
+      animationModel = config.animationModel;
+      shapeRenderer = config.shapeRenderer;
+      model = config.resolveAnimationModel();
+      easing = config.easing;
+      orientation = config.orientation;
+      afterglow = config.afterglow;
+
+      if (previous != null && sameGeometry(previous)) {
+        geometrySource = previous.geometrySource;
+      } else {
+        geometrySource = this;
+      }
+    }
+
+    /**
+     * Check whether the geometry of the eye calculated for the given state is the same as for this
+     * state. The geometry depends on the number of elements, the gap between them, the partition
+     * divider, whether the aspect ratio is forced and the orientation.
+     *
+     * @param other {@link EyeState} The state to compare this state to.
+     * @return {@link Boolean} <code>true</code> if the geometry of the given state can be used for
+     *     this state.
+     * @author Griefed
+     */
+    private boolean sameGeometry(@NotNull EyeState other) {
+      return numberOfElements == other.numberOfElements
+          && gapPercent == other.gapPercent
+          && partitionDivider == other.partitionDivider
+          && forceAspectRatio == other.forceAspectRatio
+          && orientation == other.orientation;
+    }
+
+    /**
+     * Check whether the given state has exactly the same settings as this state, in which case
+     * replacing one with the other changes nothing.
+     *
+     * @param other {@link EyeState} The state to compare this state to.
+     * @return {@link Boolean} <code>true</code> if both states have the same settings.
+     * @author Griefed
+     */
+    private boolean sameSettings(@NotNull EyeState other) {
+      return style == other.style
+          && geometrySource == other.geometrySource
+          && interval == other.interval
+          && divider == other.divider
+          && useGradients == other.useGradients
+          && useDivider == other.useDivider
+          && ovalShaped == other.ovalShaped
+          && cylonAnimation == other.cylonAnimation
+          && animationModel == other.animationModel
+          && shapeRenderer == other.shapeRenderer
+          && easing == other.easing
+          && afterglow == other.afterglow;
+    }
+
+    /**
+     * Create a configuration with the settings of this state.
+     *
+     * @param scannerBackground {@link Color} The background colour of the Larson Scanner, which is
+     *     not part of the state of the eye.
+     * @return {@link ScannerConfig} A configuration with the settings of this state.
+     * @author Griefed
+     */
+    private @NotNull ScannerConfig toConfig(@NotNull Color scannerBackground) {
+      ScannerConfig config =
+          new ScannerConfig(
+              quality,
+              alphas.clone(),
+              interval,
+              divider,
+              numberOfElements,
+              fractions,
+              gapPercent,
+              partitionDivider,
+              forceAspectRatio,
+              ovalShaped,
+              useGradients,
+              useDivider,
+              cylonAnimation,
+              eyeColours.clone(),
+              scannerBackground,
+              background);
+      config.easing = easing;
+      config.orientation = orientation;
+      config.afterglow = afterglow;
+      config.animationModel = animationModel;
+      config.shapeRenderer = shapeRenderer;
+      return config;
+    }
+  }
+
+  /**
+   * Sprites of elements persisted to a cache file, so a later launch can read them back instead of
+   * rendering them again. The file consists of a small header followed by one entry per sprite,
+   * each entry being the key of the sprite, its size and its premultiplied ARGB pixels. Existing
+   * entries are read from a memory-mapped view of the file, newly rendered sprites are appended to
+   * it.
+   *
+   * <p>The store is shared by all Larson Scanners and may be accessed from several painting
+   * threads, so it is synchronized. Any problem with the cache file merely results in sprites
+   * being rendered as if there was no cache file at all.
+   *
+   * @author Griefed
+   */
+  private static final class SpriteStore {
+
+    private static final int MAGIC = 0x4C534331;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int ENTRY_HEADER_BYTES = 16;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final Path cacheFile;
+    private final Map<Long, Integer> offsets = new HashMap<>();
+    private MappedByteBuffer mapped = null;
+    private FileChannel channel = null;
+    private long end = 0;
+    private boolean writable = true;
+
+    /**
+     * Create a store for the given cache file, mapping the entries already persisted in it. A file
+     * which does not exist yet, or which was written by an incompatible version, is started anew
+     * with the first sprite written to it.
+     *
+     * @param cacheFile {@link Path} The cache file to read sprites from and write sprites to.
+     * @author Griefed
+     */
+    private SpriteStore(@NotNull Path cacheFile) {
+      this.cacheFile = cacheFile;
+
+      try (FileChannel reader = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+        long size = reader.size();
+        if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+          return;
+        }
+
+        MappedByteBuffer buffer = reader.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+          return;
+        }
+
+        int position = HEADER_BYTES;
+        while (position + ENTRY_HEADER_BYTES <= size) {
+          long key = buffer.getLong(position);
+          long pixels = (long) buffer.getInt(position + 8) * buffer.getInt(position + 12);
+          long next = position + ENTRY_HEADER_BYTES + pixels * 4;
+          if (pixels < 0 || next > size) {
+            break;
+          }
+
+          offsets.put(key, position);
+          position = (int) next;
+        }
+
+        mapped = buffer;
+        end = position;
+
+      } catch (IOException ignored) {
+        // Without a readable cache file, every sprite is rendered and written anew.
+      }
+    }
+
+    /**
+     * Create the key of a sprite from the hash of the state of the eye it is rendered for, its
+     * variant, the element it belongs to and its size.
+     *
+     * @param state {@link EyeState} The state of the eye the sprite is rendered for.
+     * @param variant {@link Byte} The variant of the sprite.
+     * @param element {@link Byte} The number of the element.
+     * @param spriteWidth {@link Integer} The width of the sprite in device pixels.
+     * @param spriteHeight {@link Integer} The height of the sprite in device pixels.
+     * @return {@link Long} The key of the sprite.
+     * @author Griefed
+     */
+    private static long key(
+        @NotNull EyeState state, byte variant, byte element, int spriteWidth, int spriteHeight) {
+      long hash = hash(state.style.spriteHash, variant);
+      hash = hash(hash, element);
+      hash = hash(hash, spriteWidth);
+      return hash(hash, spriteHeight);
+    }
+
+    /**
+     * Add a value to a 64-bit FNV-1a hash, one byte at a time.
+     *
+     * @param hash {@link Long} The hash to add the value to.
+     * @param value {@link Long} The value to add.
+     * @return {@link Long} The new hash.
+     * @author Griefed
+     */
+    private static long hash(long hash, long value) {
+      for (int shift = 0; shift < 64; shift += 8) {
+        hash ^= (value >>> shift) & 0xFF;
+        hash *= FNV_PRIME;
+      }
+      return hash;
+    }
+
+    /**
+     * Read a sprite from the cache file.
+     *
+     * @param key {@link Long} The key of the sprite.
+     * @param spriteWidth {@link Integer} The width of the sprite in device pixels.
+     * @param spriteHeight {@link Integer} The height of the sprite in device pixels.
+     * @return {@link BufferedImage} The sprite, or <code>null</code> if the cache file contains no
+     *     sprite of the given key and size.
+     * @author Griefed
+     */
+    private synchronized @Nullable BufferedImage read(long key, int spriteWidth, int spriteHeight) {
+      Integer offset = offsets.get(key);
+      if (offset == null
+          || offset < 0
+          || mapped.getInt(offset + 8) != spriteWidth
+          || mapped.getInt(offset + 12) != spriteHeight) {
+        return null;
+      }
+
+      int[] pixels = new int[spriteWidth * spriteHeight];
+      ByteBuffer entry = mapped.duplicate();
+      entry.position(offset + ENTRY_HEADER_BYTES);
+      entry.asIntBuffer().get(pixels);
+
+      BufferedImage sprite =
+          new BufferedImage(spriteWidth, spriteHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+      sprite.getRaster().setDataElements(0, 0, spriteWidth, spriteHeight, pixels);
+      return sprite;
+    }
+
+    /**
+     * Append a sprite to the cache file, unless it is already part of it. Once the cache file can
+     * not be written to, for example because another process holds a lock on it, no further
+     * sprites are written.
+     *
+     * @param key {@link Long} The key of the sprite.
+     * @param sprite {@link BufferedImage} The sprite to write.
+     * @author Griefed
+     */
+    private synchronized void write(long key, @NotNull BufferedImage sprite) {
+      if (!writable || offsets.containsKey(key)) {
+        return;
+      }
+
+      int spriteWidth = sprite.getWidth();
+      int spriteHeight = sprite.getHeight();
+      int[] pixels =
+          (int[]) sprite.getRaster().getDataElements(0, 0, spriteWidth, spriteHeight, null);
+
+      try {
+        if (channel == null) {
+          open();
+        }
+
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER_BYTES + pixels.length * 4);
+        entry.putLong(key).putInt(spriteWidth).putInt(spriteHeight);
+        entry.asIntBuffer().put(pixels);
+        entry.rewind();
+        while (entry.hasRemaining()) {
+          end += channel.write(entry, end);
+        }
+
+        // Sprites written by this store are not part of the mapped view, they are only recorded
+        // so they are not written twice.
+        offsets.put(key, -1);
+
+      } catch (IOException ex) {
+        writable = false;
+        close();
+      }
+    }
+
+    /**
+     * Open the cache file for writing and lock it, so several processes do not write to it at the
+     * same time. Files without any valid entries are started anew by writing the header.
+     *
+     * @throws IOException if the cache file could not be opened or locked.
+     * @author Griefed
+     */
+    private void open() throws IOException {
+      channel =
+          FileChannel.open(cacheFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+      if (channel.tryLock() == null) {
+        throw new IOException("Sprite cache file is locked by another process. " + cacheFile);
+      }
+
+      if (mapped == null) {
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).rewind();
+        while (header.hasRemaining()) {
+          channel.write(header, HEADER_BYTES - header.remaining());
+        }
+        end = HEADER_BYTES;
+      }
+    }
+
+    /**
+     * Close the cache file, releasing the lock on it. Sprites already mapped remain readable.
+     *
+     * @author Griefed
+     */
+    private synchronized void close() {
+      writable = false;
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException ignored) {
+          // Nothing left to do with a channel which could not be closed.
+        }
+        channel = null;
+      }
+    }
+  }
+
+  /**
+   * Cache for the sprites of the elements of a {@link Style}, holding one set of sprites per
+   * sprite size in device pixels. Eyes sharing a style, but drawn at different sizes or on
+   * monitors with different scaling, each find the sprites for their size, so they do not discard
+   * each other's sprites. Only the most recently used sizes are kept.
+   *
+   * <p>Painting usually happens on the Event Dispatch Thread only, but as eyes may be painted
+   * offscreen from other threads as well, acquiring the sprites for a size is synchronized.
+   *
+   * @author Griefed
+   */
+  private static final class SpriteCache {
+
+    private static final int MAX_SIZES = 8;
+    private final Sprites[] entries = new Sprites[MAX_SIZES];
+    private int next = 0;
+
+    /**
+     * Acquire the sprites of the given size, creating an empty set of sprites if none exists for
+     * said size yet. When the cache is full, the least recently created set of sprites is
+     * replaced.
+     *
+     * @param numberOfElements {@link Byte} The number of elements of the style.
+     * @param spriteWidth {@link Integer} The width of one sprite in device pixels.
+     * @param spriteHeight {@link Integer} The height of one sprite in device pixels.
+     * @return {@link Sprites} The sprites of the given size.
+     * @author Griefed
+     */
+    private synchronized @NotNull Sprites forSize(
+        byte numberOfElements, int spriteWidth, int spriteHeight) {
+      for (Sprites entry : entries) {
+        if (entry != null
+            && entry.spriteWidth == spriteWidth
+            && entry.spriteHeight == spriteHeight) {
+          return entry;
+        }
+      }
+
+      Sprites entry = new Sprites(numberOfElements, spriteWidth, spriteHeight);
+      entries[next] = entry;
+      next = (next + 1) % MAX_SIZES;
+      return entry;
+    }
+
+    /**
+     * Sprites of every element in the eye, for every variant, at one size.
+     *
+     * @author Griefed
+     */
+    private static final class Sprites {
+
+      private final BufferedImage[][] sprites;
+      private final int spriteWidth;
+      private final int spriteHeight;
+
+      private Sprites(byte numberOfElements, int spriteWidth, int spriteHeight) {
+        this.sprites = new BufferedImage[3][numberOfElements];
+        this.spriteWidth = spriteWidth;
+        this.spriteHeight = spriteHeight;
+      }
+    }
+  }
+
+  /**
+   * A transition of the eye from one state to another, interpolating colours, alphas, speed, gap
+   * and partition divider over a given duration. Everything needed while the transition is running
+   * is allocated up front, or once when the first frame of the transition is painted, so painting
+   * and animating the transition does not create any objects per frame.
+   *
+   * <p>The progress of a transition is measured in {@link #STEPS} steps and calculated from the
+   * time which passed since its start, so the animator and painting threads do not need to share
+   * any mutable data for it. Colours and alphas are interpolated by blending the premultiplied
+   * pixels of the sprites of both states into preallocated sprites, which are only accessed from
+   * the thread painting the eye.
+   *
+   * @author Griefed
+   */
+  private static final class Transition {
+
+    private static final int STEPS = 256;
+
+    private final EyeState from;
+    private final EyeState to;
+    private final long start;
+    private final long duration;
+    private final Color[] backgrounds;
+    private final int[][][] fromPixels = new int[3][][];
+    private final int[][][] toPixels = new int[3][][];
+    private final BufferedImage[][] blended = new BufferedImage[3][];
+    private final int[][][] blendedPixels = new int[3][][];
+    private final int[][] blendedSteps = new int[3][];
+    private int spriteWidth = 0;
+    private int spriteHeight = 0;
+
+    /**
+     * Create a transition between two states with the same number of elements, starting now.
+     *
+     * @param from {@link EyeState} The state to transition from.
+     * @param to {@link EyeState} The state to transition to.
+     * @param duration {@link Long} The duration of the transition in nanoseconds.
+     * @author Griefed
+     */
+    private Transition(@NotNull EyeState from, @NotNull EyeState to, long duration) {
+      this.from = from;
+      this.to = to;
+      this.duration = duration;
+
+      if (from.background.equals(to.background)) {
+        backgrounds = null;
+      } else {
+        backgrounds = new Color[STEPS + 1];
+        for (int step = 0; step <= STEPS; step++) {
+          backgrounds[step] =
+              new Color(blend(from.background.getRGB(), to.background.getRGB(), step), true);
+        }
+      }
+
+      for (int variant = 0; variant < 3; variant++) {
+        fromPixels[variant] = new int[from.numberOfElements][];
+        toPixels[variant] = new int[from.numberOfElements][];
+        blended[variant] = new BufferedImage[from.numberOfElements];
+        blendedPixels[variant] = new int[from.numberOfElements][];
+        blendedSteps[variant] = new int[from.numberOfElements];
+      }
+
+      start = System.nanoTime();
+    }
+
+    /**
+     * Get the step of this transition at the given time.
+     *
+     * @param now {@link Long} The current time, as returned by {@link System#nanoTime()}.
+     * @return {@link Integer} The current step, ranging from <code>0</code> to {@link #STEPS}.
+     * @author Griefed
+     */
+    private int step(long now) {
+      long elapsed = now - start;
+      if (elapsed >= duration) {
+        return STEPS;
+      }
+      return (int) (elapsed * STEPS / duration);
+    }
+
+    /**
+     * Get the interval at which to update the eye at the given step.
+     *
+     * @param step {@link Integer} The step of the transition.
+     * @return {@link Short} The interpolated interval in milliseconds.
+     * @author Griefed
+     */
+    private short interval(int step) {
+      return (short) (from.interval + (to.interval - from.interval) * step / STEPS);
+    }
+
+    /**
+     * Get the divider with which to in-/decrement the position of the eye at the given step.
+     *
+     * @param step {@link Integer} The step of the transition.
+     * @return {@link Double} The interpolated divider.
+     * @author Griefed
+     */
+    private double divider(int step) {
+      return from.divider + (to.divider - from.divider) * (double) step / STEPS;
+    }
+
+    /**
+     * Get the percentage of the width of the gap between two elements at the given step.
+     *
+     * @param step {@link Integer} The step of the transition.
+     * @return {@link Double} The interpolated gap percentage.
+     * @author Griefed
+     */
+    private double gapPercent(int step) {
+      return from.gapPercent + (to.gapPercent - from.gapPercent) * (double) step / STEPS;
+    }
+
+    /**
+     * Get the number with which to divide the width of the Larson Scanner to get the width of the
+     * eye at the given step.
+     *
+     * @param step {@link Integer} The step of the transition.
+     * @return {@link Double} The interpolated partition divider.
+     * @author Griefed
+     */
+    private double partitionDivider(int step) {
+      return from.partitionDivider
+          + (to.partitionDivider - from.partitionDivider) * (double) step / STEPS;
+    }
+
+    /**
+     * Get the background colour of the eye at the given step.
+     *
+     * @param step {@link Integer} The step of the transition.
+     * @return {@link Color} The interpolated background colour.
+     * @author Griefed
+     */
+    private @NotNull Color background(int step) {
+      return backgrounds == null ? to.background : backgrounds[step];
+    }
+
+    /**
+     * Set the size of the sprites blended during this transition to the larger of the sprite sizes
+     * of both states, so the sprites of neither state are scaled up while being painted.
+     *
+     * @param scannerWidth {@link Double} The width of the Larson Scanner.
+     * @param scannerHeight {@link Double} The height of the Larson Scanner.
+     * @param scaleX {@link Double} The horizontal scale of the device.
+     * @param scaleY {@link Double} The vertical scale of the device.
+     * @author Griefed
+     */
+    private void size(double scannerWidth, double scannerHeight, double scaleX, double scaleY) {
+      double fromWidth = scannerWidth / from.partitionDivider / (double) from.numberOfElements;
+      double toWidth = scannerWidth / to.partitionDivider / (double) to.numberOfElements;
+      double fromHeight = from.forceAspectRatio ? fromWidth : scannerHeight;
+      double toHeight = to.forceAspectRatio ? toWidth : scannerHeight;
+
+      spriteWidth = Math.max(1, (int) Math.round(Math.max(fromWidth, toWidth) * scaleX));
+      spriteHeight = Math.max(1, (int) Math.round(Math.max(fromHeight, toHeight) * scaleY));
+    }
+
+    /**
+     * Blend the pixels of the sprites of both states for the given element into its blended
+     * sprite, unless they were already blended for the given step.
+     *
+     * @param variant {@link Byte} The variant of the sprite.
+     * @param element {@link Byte} The number of the element.
+     * @param step {@link Integer} The step of the transition.
+     * @author Griefed
+     */
+    private void blendSprite(byte variant, byte element, int step) {
+      if (blendedSteps[variant][element] == step) {
+        return;
+      }
+
+      int[] fromSprite = fromPixels[variant][element];
+      int[] toSprite = toPixels[variant][element];
+      int[] blendedSprite = blendedPixels[variant][element];
+      for (int i = 0; i < blendedSprite.length; i++) {
+        blendedSprite[i] = blend(fromSprite[i], toSprite[i], step);
+      }
+      blendedSteps[variant][element] = step;
+    }
+
+    /**
+     * Blend two premultiplied ARGB pixels, two channels at a time. With {@link #STEPS} being 256,
+     * no channel can overflow into its neighbour.
+     *
+     * @param fromPixel {@link Integer} The pixel to blend from.
+     * @param toPixel {@link Integer} The pixel to blend to.
+     * @param step {@link Integer} The step of the transition, weighting the pixel to blend to.
+     * @return {@link Integer} The blended pixel.
+     * @author Griefed
+     */
+    private static int blend(int fromPixel, int toPixel, int step) {
+      int inverse = STEPS - step;
+      int alphaGreen =
+          ((fromPixel >>> 8) & 0x00FF00FF) * inverse + ((toPixel >>> 8) & 0x00FF00FF) * step;
+      int redBlue = (fromPixel & 0x00FF00FF) * inverse + (toPixel & 0x00FF00FF) * step;
+      return (alphaGreen & 0xFF00FF00) | ((redBlue >>> 8) & 0x00FF00FF);
+    }
+  }
+
+  /**
+   * Records the frame timing of an eye, or of all eyes together. Counters and buckets are
+   * allocated once, so recording creates no objects. Every recording is passed on to the parent
+   * recorder, if there is one, so the recorder of all eyes sees everything recorded for any eye.
+   *
+   * @author Griefed
+   */
+  private static final class FrameRecorder {
+
+    private final FrameRecorder parent;
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong lateTicks = new AtomicLong();
+    private final AtomicLong framesPainted = new AtomicLong();
+    private final AtomicLong framesCoalesced = new AtomicLong();
+    private final AtomicLong tickCpuTime = new AtomicLong();
+    private final Buckets tickJitter = new Buckets();
+    private final Buckets paintDuration = new Buckets();
+
+    private FrameRecorder(@Nullable FrameRecorder parent) {
+      this.parent = parent;
+    }
+
+    /**
+     * Record a tick.
+     *
+     * @param jitter {@link Long} The jitter of the tick in nanoseconds, or <code>-1</code> if there
+     *     was no previous tick to measure it against.
+     * @param late {@link Boolean} Whether the tick was late.
+     * @param coalesced {@link Boolean} Whether the frame of the previous tick was never painted.
+     * @author Griefed
+     */
+    private void tick(long jitter, boolean late, boolean coalesced) {
+      ticks.incrementAndGet();
+      if (jitter >= 0L) {
+        tickJitter.record(jitter);
+      }
+      if (late) {
+        lateTicks.incrementAndGet();
+      }
+      if (coalesced) {
+        framesCoalesced.incrementAndGet();
+      }
+      if (parent != null) {
+        parent.tick(jitter, late, coalesced);
+      }
+    }
+
+    /**
+     * Record the CPU time spent ticking.
+     *
+     * @param nanos {@link Long} The CPU time of one tick, in nanoseconds.
+     * @author Griefed
+     */
+    private void tickCpu(long nanos) {
+      tickCpuTime.addAndGet(nanos);
+      if (parent != null) {
+        parent.tickCpu(nanos);
+      }
+    }
+
+    /**
+     * Record a painted frame.
+     *
+     * @param duration {@link Long} The time it took to paint the frame, in nanoseconds.
+     * @author Griefed
+     */
+    private void frame(long duration) {
+      framesPainted.incrementAndGet();
+      paintDuration.record(duration);
+      if (parent != null) {
+        parent.frame(duration);
+      }
+    }
+
+    /**
+     * Take a snapshot of everything recorded so far.
+     *
+     * @return {@link FrameMetrics} The snapshot.
+     * @author Griefed
+     */
+    private @NotNull FrameMetrics snapshot() {
+      return new FrameMetrics(
+          ticks.get(),
+          lateTicks.get(),
+          framesPainted.get(),
+          framesCoalesced.get(),
+          tickCpuTime.get(),
+          tickJitter.snapshot(),
+          paintDuration.snapshot());
+    }
+
+    /**
+     * The buckets of one histogram. See {@link FrameMetrics.Histogram}.
+     *
+     * @author Griefed
+     */
+    private static final class Buckets {
+
+      private final AtomicLongArray counts = new AtomicLongArray(FrameMetrics.Histogram.BUCKETS);
+      private final AtomicLong sum = new AtomicLong();
+      private final AtomicLong max = new AtomicLong();
+
+      /**
+       * Count a duration in its bucket.
+       *
+       * @param nanos {@link Long} The duration in nanoseconds.
+       * @author Griefed
+       */
+      private void record(long nanos) {
+        counts.incrementAndGet(FrameMetrics.Histogram.bucketOf(nanos));
+        sum.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+      }
+
+      /**
+       * Take a snapshot of the buckets.
+       *
+       * @return {@link FrameMetrics.Histogram} The snapshot.
+       * @author Griefed
+       */
+      private @NotNull FrameMetrics.Histogram snapshot() {
+        long[] snapshot = new long[FrameMetrics.Histogram.BUCKETS];
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+          snapshot[bucket] = counts.get(bucket);
+        }
+        return new FrameMetrics.Histogram(snapshot, sum.get(), max.get());
+      }
+    }
+  }
+
+  /**
+   * A debug overlay showing the cost of an eye: the frames painted per second compared to the
+   * target implied by the interval, the mean and 99th percentile of the time it took to paint
+   * them, the rendering quality and how often sprites were found in the cache. See {@link
+   * LarsonScanner#useDebugOverlay(boolean)}.
+   *
+   * <p>The numbers are taken over windows of one second. Only when a window ends are the lines
+   * formatted into preallocated char buffers and turned into glyph vectors. Every other frame
+   * draws the same glyph vectors, so the overlay creates no objects and costs little while
+   * painting, and it is drawn after the time it took to paint the frame was recorded.
+   *
+   * @author Griefed
+   */
+  private static final class DebugOverlay {
+
+    private static final long WINDOW = 1_000_000_000L;
+    private static final int LINES = 3;
+    private static final int COLUMNS = 80;
+    private static final int LINE_HEIGHT = 11;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 10);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    private static final Color TEXT = new Color(255, 255, 255);
+    private static final String[] QUALITIES = {"low", "medium", "high"};
+
+    private final char[][] lines = new char[LINES][COLUMNS];
+    private final int[] lengths = new int[LINES];
+    private final GlyphVector[] glyphs = new GlyphVector[LINES];
+    private final long[] buckets = new long[FrameMetrics.Histogram.BUCKETS];
+    private double textWidth = 0.0D;
+    private long windowStart = 0L;
+    private long windowFrames = 0L;
+    private long windowPaintNanos = 0L;
+    private long windowLookups = 0L;
+    private long windowHits = 0L;
+
+    /**
+     * Draw the overlay, formatting its lines anew if the current window ended. The first window
+     * starts with the first frame the overlay is drawn for.
+     *
+     * @param g2d {@link Graphics2D} to draw with.
+     * @param recorder {@link FrameRecorder} The recorder of the eye.
+     * @param targetInterval {@link Long} The interval the eye is meant to be updated at, in
+     *     milliseconds, or <code>0</code> if the eye is paused.
+     * @param quality {@link Integer} The rendering quality of the eye.
+     * @param lookups {@link Long} The number of sprites looked up so far.
+     * @param rendered {@link Long} The number of sprites rendered so far.
+     * @param read {@link Long} The number of sprites read from the sprite cache file so far.
+     * @author Griefed
+     */
+    private void draw(
+        @NotNull Graphics2D g2d,
+        @NotNull FrameRecorder recorder,
+        long targetInterval,
+        int quality,
+        long lookups,
+        long rendered,
+        long read) {
+      long now = System.nanoTime();
+      if (windowStart == 0L) {
+        startWindow(now, recorder, lookups, lookups - rendered - read);
+        format(g2d, 0.0D, targetInterval, 0L, 0L, quality, 0L, 0L, rendered, read);
+
+      } else if (now - windowStart >= WINDOW) {
+        long frames = recorder.framesPainted.get() - windowFrames;
+        long paintNanos = recorder.paintDuration.sum.get() - windowPaintNanos;
+        long p99 = percentile(recorder, frames, 0.99D);
+        double framesPerSecond = frames * 1_000_000_000.0D / (now - windowStart);
+        long hits = lookups - rendered - read;
+
+        format(
+            g2d,
+            framesPerSecond,
+            targetInterval,
+            frames == 0L ? 0L : paintNanos / frames,
+            p99,
+            quality,
+            lookups - windowLookups,
+            hits - windowHits,
+            rendered,
+            read);
+        startWindow(now, recorder, lookups, hits);
+      }
+
+      g2d.setColor(BACKGROUND);
+      g2d.fillRect(0, 0, (int) Math.ceil(textWidth) + 4, LINES * LINE_HEIGHT + 3);
+      g2d.setColor(TEXT);
+      for (int line = 0; line < LINES; line++) {
+        g2d.drawGlyphVector(glyphs[line], 2.0F, (line + 1) * LINE_HEIGHT);
+      }
+    }
+
+    /**
+     * Start a new window at the given time, remembering the counters at its start.
+     *
+     * @param now {@link Long} The start of the window.
+     * @param recorder {@link FrameRecorder} The recorder of the eye.
+     * @param lookups {@link Long} The number of sprites looked up so far.
+     * @param hits {@link Long} The number of sprites found in the cache so far.
+     * @author Griefed
+     */
+    private void startWindow(long now, @NotNull FrameRecorder recorder, long lookups, long hits) {
+      windowStart = now;
+      windowFrames = recorder.framesPainted.get();
+      windowPaintNanos = recorder.paintDuration.sum.get();
+      windowLookups = lookups;
+      windowHits = hits;
+      for (int bucket = 0; bucket < buckets.length; bucket++) {
+        buckets[bucket] = recorder.paintDuration.counts.get(bucket);
+      }
+    }
+
+    /**
+     * Estimate a percentile of the paint times of the current window from the buckets counted
+     * since the window started.
+     *
+     * @param recorder {@link FrameRecorder} The recorder of the eye.
+     * @param frames {@link Long} The number of frames painted in the window.
+     * @param percentile {@link Double} The percentile to estimate.
+     * @return {@link Long} The upper bound of the bucket of the percentile, in nanoseconds.
+     * @author Griefed
+     */
+    private long percentile(@NotNull FrameRecorder recorder, long frames, double percentile) {
+      long rank = (long) Math.ceil(percentile * frames);
+      long seen = 0L;
+      for (int bucket = 0; bucket < buckets.length; bucket++) {
+        seen += recorder.paintDuration.counts.get(bucket) - buckets[bucket];
+        if (seen >= rank && seen > 0L) {
+          return bucket == buckets.length - 1 ? Long.MAX_VALUE : 2L << bucket;
+        }
+      }
+      return 0L;
+    }
+
+    /**
+     * Format the lines of the overlay into their char buffers and create their glyph vectors.
+     *
+     * @param g2d {@link Graphics2D} whose font render context to create the glyph vectors for.
+     * @param framesPerSecond {@link Double} The frames painted per second.
+     * @param targetInterval {@link Long} The interval the eye is meant to be updated at, in
+     *     milliseconds, or <code>0</code> if the eye is paused.
+     * @param meanPaint {@link Long} The mean paint time in nanoseconds.
+     * @param p99Paint {@link Long} The 99th percentile of the paint time in nanoseconds.
+     * @param quality {@link Integer} The rendering quality of the eye.
+     * @param lookups {@link Long} The number of sprites looked up in the window.
+     * @param hits {@link Long} The number of sprites found in the cache in the window.
+     * @param rendered {@link Long} The number of sprites rendered so far.
+     * @param read {@link Long} The number of sprites read from the sprite cache file so far.
+     * @author Griefed
+     */
+    private void format(
+        @NotNull Graphics2D g2d,
+        double framesPerSecond,
+        long targetInterval,
+        long meanPaint,
+        long p99Paint,
+        int quality,
+        long lookups,
+        long hits,
+        long rendered,
+        long read) {
+      char[] line = lines[0];
+      int at = append(line, 0, "fps ");
+      at = appendFixed(line, at, framesPerSecond);
+      at = append(line, at, " / ");
+      if (targetInterval == 0L) {
+        at = append(line, at, "paused");
+      } else {
+        at = appendFixed(line, at, 1000.0D / targetInterval);
+      }
+      at = append(line, at, "  quality ");
+      lengths[0] = append(line, at, QUALITIES[quality]);
+
+      line = lines[1];
+      at = append(line, 0, "paint ");
+      at = appendFixed(line, at, meanPaint / 1_000_000.0D);
+      at = append(line, at, " ms  p99 ");
+      if (p99Paint == Long.MAX_VALUE) {
+        at = append(line, at, "> 500000");
+      } else {
+        at = appendFixed(line, at, p99Paint / 1_000_000.0D);
+      }
+      lengths[1] = append(line, at, " ms");
+
+      line = lines[2];
+      at = append(line, 0, "sprites ");
+      at = appendFixed(line, at, lookups == 0L ? 100.0D : hits * 100.0D / lookups);
+      at = append(line, at, "% hit  ");
+      at = append(line, at, rendered);
+      at = append(line, at, " rendered  ");
+      at = append(line, at, read);
+      lengths[2] = append(line, at, " from file");
+
+      FontRenderContext context = g2d.getFontRenderContext();
+      textWidth = 0.0D;
+      for (int index = 0; index < LINES; index++) {
+        char[] text = Arrays.copyOf(lines[index], lengths[index]);
+        glyphs[index] = FONT.createGlyphVector(context, text);
+        textWidth = Math.max(textWidth, glyphs[index].getLogicalBounds().getWidth());
+      }
+    }
+
+    /**
+     * Append text to a line of the overlay.
+     *
+     * @param line {@link Character}-array The line to append to.
+     * @param at {@link Integer} The position to append at.
+     * @param text {@link String} The text to append.
+     * @return {@link Integer} The position after the appended text.
+     * @author Griefed
+     */
+    private static int append(char @NotNull [] line, int at, @NotNull String text) {
+      int length = Math.min(text.length(), COLUMNS - at);
+      text.getChars(0, length, line, at);
+      return at + length;
+    }
+
+    /**
+     * Append a whole, non-negative number to a line of the overlay.
+     *
+     * @param line {@link Character}-array The line to append to.
+     * @param at {@link Integer} The position to append at.
+     * @param value {@link Long} The number to append.
+     * @return {@link Integer} The position after the appended number.
+     * @author Griefed
+     */
+    private static int append(char @NotNull [] line, int at, long value) {
+      int digits = 1;
+      for (long rest = value / 10L; rest > 0L; rest /= 10L) {
+        digits++;
+      }
+      if (at + digits > COLUMNS) {
+        return at;
+      }
+      for (int digit = at + digits - 1; digit >= at; digit--) {
+        line[digit] = (char) ('0' + value % 10L);
+        value /= 10L;
+      }
+      return at + digits;
+    }
+
+    /**
+     * Append a non-negative number with two decimals to a line of the overlay.
+     *
+     * @param line {@link Character}-array The line to append to.
+     * @param at {@link Integer} The position to append at.
+     * @param value {@link Double} The number to append.
+     * @return {@link Integer} The position after the appended number.
+     * @author Griefed
+     */
+    private static int appendFixed(char @NotNull [] line, int at, double value) {
+      long hundredths = Math.round(Math.max(0.0D, value) * 100.0D);
+      at = append(line, at, hundredths / 100L);
+      if (at + 3 > COLUMNS) {
+        return at;
+      }
+      line[at] = '.';
+      line[at + 1] = (char) ('0' + hundredths / 10L % 10L);
+      line[at + 2] = (char) ('0' + hundredths % 10L);
+      return at + 3;
+    }
+  }
+
+  /**
+   * The MBean of one Larson Scanner registered with the platform MBean server. All registered
+   * Larson Scanners are tracked by the {@link FleetMBean}, which is registered along with the
+   * first one and unregistered along with the last one. Registering and unregistering is
+   * synchronized on this class.
+   *
+   * @author Griefed
+   */
+  private static final class ScannerMBean implements ScannerMXBean {
+
+    private static final String DOMAIN = "de.griefed.larsonscanner";
+    private static FleetMBean fleet = null;
+
+    private final LarsonScanner larsonScanner;
+    private final ObjectName objectName;
+    private long windowStart;
+    private long windowFrames;
+    private long windowPaintNanos;
+    private double framesPerSecond = 0.0D;
+    private double paintTimeMillis = 0.0D;
+
+    private ScannerMBean(@NotNull LarsonScanner larsonScanner, @NotNull ObjectName objectName) {
+      this.larsonScanner = larsonScanner;
+      this.objectName = objectName;
+      FrameRecorder recorder = larsonScanner.EYE.frameRecorder;
+      windowStart = System.nanoTime();
+      windowFrames = recorder.framesPainted.get();
+      windowPaintNanos = recorder.paintDuration.sum.get();
+    }
+
+    /**
+     * Register the MBean of a Larson Scanner, and the MBean of all Larson Scanners if it is the
+     * first one. See {@link LarsonScanner#registerMBean(String)}.
+     *
+     * @param larsonScanner {@link LarsonScanner} The Larson Scanner to register.
+     * @param name {@link String} The name to register it under.
+     * @throws IllegalArgumentException if the name is in use already.
+     * @throws IllegalStateException if the MBean server refuses the MBean.
+     * @author Griefed
+     */
+    private static synchronized void register(
+        @NotNull LarsonScanner larsonScanner, @NotNull String name)
+        throws IllegalArgumentException, IllegalStateException {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName objectName;
+      try {
+        objectName =
+            new ObjectName(DOMAIN + ":type=LarsonScanner,name=" + ObjectName.quote(name));
+      } catch (MalformedObjectNameException ex) {
+        throw new IllegalArgumentException("Invalid MBean name. Specified " + name, ex);
+      }
+      if (larsonScanner.mbean != null && larsonScanner.mbean.objectName.equals(objectName)) {
+        return;
+      }
+      if (server.isRegistered(objectName)) {
+        throw new IllegalArgumentException("MBean name already in use. Specified " + name);
+      }
+
+      unregister(larsonScanner);
+      try {
+        if (fleet == null) {
+          FleetMBean created = new FleetMBean();
+          server.registerMBean(created, new ObjectName(DOMAIN + ":type=LarsonScanner,name=All"));
+          fleet = created;
+        }
+
+        ScannerMBean mbean = new ScannerMBean(larsonScanner, objectName);
+        server.registerMBean(mbean, objectName);
+        larsonScanner.mbean = mbean;
+        fleet.members.add(mbean);
+
+      } catch (JMException ex) {
+        throw new IllegalStateException("Could not register MBean " + objectName, ex);
+      }
+
+      if (fleet.maxFramesPerSecond > 0) {
+        larsonScanner.setMaxFramesPerSecond(fleet.maxFramesPerSecond);
+      }
+    }
+
+    /**
+     * Unregister the MBean of a Larson Scanner, and the MBean of all Larson Scanners if it was the
+     * last one. See {@link LarsonScanner#unregisterMBean()}.
+     *
+     * @param larsonScanner {@link LarsonScanner} The Larson Scanner to unregister.
+     * @author Griefed
+     */
+    private static synchronized void unregister(@NotNull LarsonScanner larsonScanner) {
+      ScannerMBean mbean = larsonScanner.mbean;
+      if (mbean == null) {
+        return;
+      }
+
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      larsonScanner.mbean = null;
+      fleet.members.remove(mbean);
+      try {
+        server.unregisterMBean(mbean.objectName);
+        if (fleet.members.isEmpty()) {
+          server.unregisterMBean(new ObjectName(DOMAIN + ":type=LarsonScanner,name=All"));
+          fleet = null;
+        }
+      } catch (JMException ignored) {
+        // Unregistered by someone else already.
+      }
+    }
+
+    /**
+     * Average the frames painted and the time it took to paint them over the time since the
+     * window was last moved, and move the window if it spans at least one second.
+     *
+     * @author Griefed
+     */
+    private synchronized void sample() {
+      long now = System.nanoTime();
+      long elapsed = now - windowStart;
+      if (elapsed < 1_000_000_000L) {
+        return;
+      }
+
+      FrameRecorder recorder = larsonScanner.EYE.frameRecorder;
+      long frames = recorder.framesPainted.get();
+      long paintNanos = recorder.paintDuration.sum.get();
+      framesPerSecond = (frames - windowFrames) * 1_000_000_000.0D / elapsed;
+      paintTimeMillis =
+          frames == windowFrames
+              ? 0.0D
+              : (paintNanos - windowPaintNanos) / 1_000_000.0D / (frames - windowFrames);
+      windowStart = now;
+      windowFrames = frames;
+      windowPaintNanos = paintNanos;
+    }
+
+    @Override
+    public synchronized double getFramesPerSecond() {
+      sample();
+      return framesPerSecond;
+    }
+
+    @Override
+    public synchronized double getPaintTimeMillis() {
+      sample();
+      return paintTimeMillis;
+    }
+
+    @Override
+    public long getFramesPainted() {
+      return larsonScanner.EYE.frameRecorder.framesPainted.get();
+    }
+
+    @Override
+    public double getCpuTimeMillis() {
+      FrameRecorder recorder = larsonScanner.EYE.frameRecorder;
+      return (recorder.tickCpuTime.get() + recorder.paintDuration.sum.get()) / 1_000_000.0D;
+    }
+
+    @Override
+    public long getFramesCoalesced() {
+      return larsonScanner.EYE.frameRecorder.framesCoalesced.get();
+    }
+
+    @Override
+    public long getLateTicks() {
+      return larsonScanner.EYE.frameRecorder.lateTicks.get();
+    }
+
+    @Override
+    public boolean isPaused() {
+      return larsonScanner.EYE.paused;
+    }
+
+    @Override
+    public int getQuality() {
+      return larsonScanner.getQualitySetting();
+    }
+
+    @Override
+    public void setQuality(int quality) throws IllegalArgumentException {
+      larsonScanner.EYE.update(config -> config.setQualitySetting(quality));
+    }
+
+    @Override
+    public int getMaxFramesPerSecond() {
+      return larsonScanner.getMaxFramesPerSecond();
+    }
+
+    @Override
+    public void setMaxFramesPerSecond(int framesPerSecond) throws IllegalArgumentException {
+      larsonScanner.setMaxFramesPerSecond(framesPerSecond);
+    }
+
+    @Override
+    public void pause() {
+      larsonScanner.pause();
+    }
+
+    @Override
+    public void resume() {
+      larsonScanner.play();
+    }
+  }
+
+  /**
+   * The MBean of all Larson Scanners registered with the platform MBean server. See {@link
+   * ScannerMBean}.
+   *
+   * @author Griefed
+   */
+  private static final class FleetMBean implements FleetMXBean {
+
+    private final List<ScannerMBean> members = new CopyOnWriteArrayList<>();
+    private volatile int maxFramesPerSecond = 0;
+
+    @Override
+    public int getNumberOfScanners() {
+      return members.size();
+    }
+
+    @Override
+    public int getPausedScanners() {
+      int paused = 0;
+      for (ScannerMBean member : members) {
+        if (member.isPaused()) {
+          paused++;
+        }
+      }
+      return paused;
+    }
+
+    @Override
+    public double getFramesPerSecond() {
+      double framesPerSecond = 0.0D;
+      for (ScannerMBean member : members) {
+        framesPerSecond += member.getFramesPerSecond();
+      }
+      return framesPerSecond;
+    }
+
+    /**
+     * The mean paint time of all members, weighted by the number of frames each of them painted.
+     *
+     * @return {@link Double} The recent mean paint time in milliseconds.
+     * @author Griefed
+     */
+    @Override
+    public double getPaintTimeMillis() {
+      double framesPerSecond = 0.0D;
+      double paintTime = 0.0D;
+      for (ScannerMBean member : members) {
+        double memberFrames = member.getFramesPerSecond();
+        framesPerSecond += memberFrames;
+        paintTime += memberFrames * member.getPaintTimeMillis();
+      }
+      return framesPerSecond == 0.0D ? 0.0D : paintTime / framesPerSecond;
+    }
+
+    @Override
+    public int getMaxFramesPerSecond() {
+      return maxFramesPerSecond;
+    }
+
+    @Override
+    public void setMaxFramesPerSecond(int framesPerSecond) throws IllegalArgumentException {
+      if (framesPerSecond < 0) {
+        throw new IllegalArgumentException(
+            "Max frames per second must be 0 or greater. Specified " + framesPerSecond);
+      }
+      maxFramesPerSecond = framesPerSecond;
+      for (ScannerMBean member : members) {
+        member.setMaxFramesPerSecond(framesPerSecond);
+      }
+    }
+
+    @Override
+    public void useQualityForAll(int quality) throws IllegalArgumentException {
+      if (quality < ScannerConfig.LOW || quality > ScannerConfig.HIGH) {
+        throw new IllegalArgumentException(
+            "Quality setting must be 0, 1 or 2. Specified " + quality);
+      }
+      for (ScannerMBean member : members) {
+        member.setQuality(quality);
+      }
+    }
+
+    @Override
+    public void pauseAll() {
+      for (ScannerMBean member : members) {
+        member.pause();
+      }
+    }
+
+    @Override
+    public void resumeAll() {
+      for (ScannerMBean member : members) {
+        member.resume();
+      }
+    }
+  }
+
+  /**
+   * An additional eye scanning alongside the primary eye. Its state is derived from the state of
+   * the primary eye, with its own colour and divider, whenever the primary eye changes. It moves
+   * with a motion of its own, only ever moved by the animator of the primary eye, while painting
+   * reads the snapshot taken with {@link #snapshot()}.
+   *
+   * @author Griefed
+   */
+  private static final class Sweep extends ScannerEngine.EyeMotion {
+
+    private final Color colour;
+    private final short divider;
+    private final double startPhase;
+    private volatile EyeState state = null;
+    private boolean placed = false;
+    private short drawnPosition = 0;
+    private boolean drawnIncreasing = true;
+    private boolean drawnPlaced = false;
+
+    /**
+     * Create an additional eye, which is placed once the width of the Larson Scanner is known.
+     *
+     * @param colour {@link Color} The colour of all elements of the eye.
+     * @param divider {@link Short} The divider with which to in-/decrement the position.
+     * @param startPhase {@link Double} Where the eye starts, as a fraction of the width.
+     * @param reverse {@link Boolean} Whether the eye starts scanning from right to left.
+     * @author Griefed
+     */
+    private Sweep(@NotNull Color colour, short divider, double startPhase, boolean reverse) {
+      this.colour = colour;
+      this.divider = divider;
+      this.startPhase = startPhase;
+      this.increasing = !reverse;
+    }
+
+    /**
+     * Copy the current position and direction of the eye to the ones to draw. Must be called while
+     * holding the monitor of the eye the additional eye scans alongside, which the animator moves
+     * the eye under.
+     *
+     * @author Griefed
+     */
+    private void snapshot() {
+      drawnPosition = position;
+      drawnIncreasing = increasing;
+      drawnPlaced = placed;
+    }
+  }
+
+  /**
+   * Animates an eye on the animator thread of its Larson Scanner. The animator only holds on to the
+   * eye weakly, so a Larson Scanner which is dropped without being disposed can still be collected,
+   * which ends its animator thread.
+   *
+   * @author Griefed
+   */
+  private static final class Animator implements Runnable {
+
+    /** Milliseconds a waiting animator waits before checking whether its eye was collected. */
+    private static final long COLLECTED_CHECK = 500L;
+
+    private final WeakReference<Eye> reference;
+
+    private Animator(@NotNull Eye eye) {
+      this.reference = new WeakReference<>(eye);
+    }
+
+    /**
+     * Animate the eye! This method gets called after the thread is created in the constructor of
+     * the parent {@link LarsonScanner} and started from there.
+     *
+     * <p>By setting <code>paused</code> to either true or false you can pause or unpause the
+     * animation respectively.
+     *
+     * <p>If the animation is not paused, the eye is ticked once per interval, see {@link
+     * Eye#tick(short)}. While the eye is paused or a member of a {@link ScannerGroup}, the animator
+     * waits until it is woken up, see {@link #wake()}. The loop ends once the eye is disposed, see
+     * {@link Eye#dispose()}, or collected.
+     *
+     * @author Griefed
+     */
+    @Override
+    public void run() {
+      short interval;
+      while ((interval = interval()) > 0) {
+        try {
+          //noinspection BusyWait
+          Thread.sleep(interval);
+
+          if (stopTicking()) {
+            synchronized (this) {
+              while (isWaiting()) {
+                wait(COLLECTED_CHECK);
+              }
+            }
+          }
+        } catch (InterruptedException ignored) {
+        }
+
+        tick(interval);
+      }
+    }
+
+    /**
+     * Tick the eye, unless it was collected. The eye is only ever held on to within this and the
+     * other methods of the animator, so no reference to it is left on the stack of the animator
+     * thread while it sleeps or waits.
+     *
+     * @param interval {@link Short} The interval the animator slept for, in milliseconds.
+     * @author Griefed
+     */
+    private void tick(short interval) {
+      Eye eye = reference.get();
+      if (eye != null) {
+        eye.tick(interval);
+      }
+    }
+
+    /**
+     * Wake the animator up, after the eye was played, left its group or was disposed.
+     *
+     * @author Griefed
+     */
+    private synchronized void wake() {
+      notifyAll();
+    }
+
+    /**
+     * Get the interval to sleep for before the next tick of the eye.
+     *
+     * @return {@link Short} The interval in milliseconds, or <code>0</code> if the eye was disposed
+     *     or collected.
+     * @author Griefed
+     */
+    private short interval() {
+      Eye eye = reference.get();
+      if (eye == null || eye.disposed) {
+        return 0;
+      }
+      return (short) Math.max(eye.currentInterval(), eye.minimumInterval);
+    }
+
+    /**
+     * Stop ticking the eye if it is paused or a member of a group, so the first tick afterwards is
+     * not measured against the last one.
+     *
+     * @return {@link Boolean} <code>true</code> if the animator has to wait.
+     * @author Griefed
+     */
+    private boolean stopTicking() {
+      Eye eye = reference.get();
+      if (eye == null || !isWaiting()) {
+        return false;
+      }
+      eye.stopTicking();
+      return true;
+    }
+
+    /**
+     * Get whether the animator has to wait, because the eye is paused or a member of a group.
+     *
+     * @return {@link Boolean} <code>true</code> if the eye is neither disposed nor collected, and
+     *     paused or a member of a group.
+     * @author Griefed
+     */
+    private boolean isWaiting() {
+      Eye eye = reference.get();
+      return eye != null && (eye.paused || eye.group != null) && !eye.disposed;
+    }
+  }
+
+  /**
+   * The heart and soul of the Larson Scanner, the eye. This is the element which is being drawn and
+   * animated within the panel of the LarsonScanner itself.
+   *
+   * @author Griefed
+   */
+  private class Eye extends JComponent {
+
+    /** Number of frames rendered per rendering quality when calibrating the quality. */
+    private static final int CALIBRATION_FRAMES = 24;
+
+    /** Painting a frame may take up to this fraction of the interval, e.g. 4 for a quarter. */
+    private static final int CALIBRATION_BUDGET_SHARE = 4;
+
+    /** Sprite variant for elements drawn with solid colours. */
+    private static final byte SOLID = ShapeRenderer.VARIANT_SOLID;
+
+    /** Sprite variant for elements drawn with the gradients of the Cylon-animation. */
+    private static final byte CYLON = ShapeRenderer.VARIANT_CYLON;
+
+    /** Sprite variant for elements drawn with the gradients of the Kitt-animation. */
+    private static final byte KITT = ShapeRenderer.VARIANT_KITT;
+
+    private final Animator animator = new Animator(this);
+    private final AffineTransform deviceTransform = new AffineTransform();
+    private final Object stateLock = new Object();
+    private volatile EyeState state;
+    private volatile Sweep[] sweeps = new Sweep[0];
+    private volatile Transition transition = null;
+    private Transition activeTransition = null;
+    private int transitionStep = 0;
+    private volatile boolean paused = true;
+    private volatile boolean disposed = false;
+    private volatile ScannerGroup group = null;
+    private volatile double speed = 1.0D;
+    private double pendingSteps = 0.0D;
+    private ScheduledFuture<?> speedSampling = null;
+    private long speedBinding = 0L;
+    private final FrameRecorder frameRecorder = new FrameRecorder(ANIMATION_RECORDER);
+    private final int instanceId = INSTANCES.incrementAndGet();
+    private long lastTick = 0L;
+    private volatile boolean repaintPending = false;
+    private volatile short minimumInterval = 0;
+    private volatile int maxFramesPerSecond = 0;
+    private volatile DebugOverlay debugOverlay = null;
+    private long spriteLookups = 0L;
+    private long spritesRendered = 0L;
+    private long spritesRead = 0L;
+    private final ScannerEngine engine = new ScannerEngine(instanceId, frameRecorder.ticks);
+    private short drawnPosition;
+    private boolean drawnIncreasing = true;
+    private volatile boolean calibrateQuality = false;
+    private boolean qualityCalibrated = false;
+    private SpriteCache calibrationSprites = null;
+    private double scaleX = 1.0D;
+    private double scaleY = 1.0D;
+    private SpriteCache.Sprites sprites;
+    private BufferedImage glowStrip = null;
+    private int[] glowPixels = new int[0];
+    private final int[] glowColours = new int[256];
+    private Style glowStyle = null;
+    private int spriteWidth = 0;
+    private int spriteHeight = 0;
+    private final AffineTransform elementTransform = new AffineTransform();
+    private BufferedImage glowRing = null;
+    private int[] glowRingPixels = new int[0];
+    private int[] glowRingIndices = new int[0];
+    private int[] glowRingColumns = new int[0];
+    private double glowRingRadius = 0.0D;
+    private int glowRingLength = 0;
+
+    /**
+     * Default constructor for our eye, setting the background colour to black, the rendering
+     * quality to low and the interval of the timer to a default value of 100ms.
+     *
+     * @author Griefed
+     */
+    public Eye() {
+      super();
+      setDoubleBuffered(true);
+      state = new EyeState(new ScannerConfig(), null);
     }
 
     /**
-     * Create the radial gradient for the currently being drawn, oval-shaped, element. Radial
-     * gradients extend from the 2D center point of the current element to the height of one
-     * element.
+     * Convenience constructor for an eye. This allows you to set the interval in ms at which the
+     * eye is being drawn.
      *
-     * @param element {@link Byte} The number of the element currently being drawn.
-     * @param centerX {@link Double} The X-coordinate of the center of the element currently being
-     *     drawn.
-     * @param color {@link Color} The color of the element currently being drawn.
-     * @return {@link RadialGradientPaint} A radial gradient for the currently being drawn,
-     *     oval-shaped, element.
+     * @param updateInterval {@link Short} Interval in milliseconds at which to scroll.
      * @author Griefed
      */
-    private @NotNull RadialGradientPaint cylonRadialGradient(
-        byte element, double centerX, @NotNull Color color) {
+    public Eye(short updateInterval) {
+      super();
+      setDoubleBuffered(true);
+      ScannerConfig config = new ScannerConfig();
+      config.setInterval(updateInterval);
+      state = new EyeState(config, null);
+    }
 
-      Color[] colors = {colorWithAlpha(alphas[element], color), getBackground()};
-      return new RadialGradientPaint(
-          new Point((int) centerX, (int) (height / 2)), (float) (0.5f * height), fractions, colors);
+    /**
+     * Convenience constructor for an eye. This allows you to set the interval in ms at which the
+     * eye is being drawn as well as the background of the eye.
+     *
+     * @param updateInterval {@link Short} Interval in milliseconds at which to scroll.
+     * @param backgroundColor {@link Color} The background colour for the scanner and the eye.
+     * @author Griefed
+     */
+    public Eye(short updateInterval, @NotNull Color backgroundColor) {
+      super();
+      setDoubleBuffered(true);
+      ScannerConfig config = new ScannerConfig();
+      config.setInterval(updateInterval);
+      config.setEyeBackgroundColour(backgroundColor);
+      state = new EyeState(config, null);
     }
 
     /**
-     * Draw our element in rectangular shape. If <code>useGradient</code> is set, then gradients are
-     * used for painting, otherwise our rectangles are painted with solid colours. For details on
-     * how this animation behaves, see {@link LarsonScanner#useCylonAnimation(boolean)}.
+     * Convenience constructor for an eye. This allows you to set the interval in ms at which the
+     * eye is being drawn, the background of the eye, as well as the colour of the eye.
      *
-     * @param g2d {@link Graphics2D} to fill and draw with.
-     * @param startY {@link Byte} The play of an element along the Y-axis.
+     * @param updateInterval {@link Short} Interval in milliseconds at which to scroll.
+     * @param backgroundColor {@link Color} The background colour for the scanner and the eye.
+     * @param eyeColor {@link Color} The color of the eye.
      * @author Griefed
      */
-    private void drawCylonRect(@NotNull Graphics2D g2d, byte startY) {
+    public Eye(short updateInterval, @NotNull Color backgroundColor, @NotNull Color eyeColor) {
+      super();
+      setDoubleBuffered(true);
+      ScannerConfig config = new ScannerConfig();
+      config.setInterval(updateInterval);
+      config.setEyeBackgroundColour(backgroundColor);
+      config.setEyeColours(new Color[] {eyeColor, eyeColor, eyeColor, eyeColor, eyeColor});
+      state = new EyeState(config, null);
+    }
 
-      for (byte element = 0; element < numberOfElements; element++) {
+    /**
+     * Tick the eye on its animator thread, see {@link Animator#run()}. The position of the eye gets
+     * updated by calling {@link #updatePosition()} and then the eye gets drawn. While the eye is a
+     * member of a {@link ScannerGroup}, it is moved by the group instead, see {@link
+     * #follow(ScannerGroup, double, boolean)}, and nothing happens once the eye is disposed. Every
+     * tick is recorded for the frame metrics, see {@link #recordTick(long)}.
+     *
+     * @param interval {@link Short} The interval the animator slept for, in milliseconds.
+     * @author Griefed
+     */
+    private void tick(short interval) {
+      synchronized (this) {
+        if (group != null || disposed) {
+          return;
+        }
+        Object event = ScannerEvents.begin(ScannerEvents.TICK);
+        long cpuStart = threadCpuTime();
+        recordTick(interval * 1_000_000L);
+        updatePosition();
+        frameRecorder.tickCpu(threadCpuTime() - cpuStart);
+        commitEvent(event, null);
+      }
+      repaint();
+    }
+
+    /**
+     * Forget the last tick while the animator waits, so the first tick afterwards has no previous
+     * tick to measure its jitter against.
+     *
+     * @author Griefed
+     */
+    private synchronized void stopTicking() {
+      lastTick = 0L;
+    }
+
+    /**
+     * Record a tick of the eye, measuring its jitter against the previous tick. The first tick
+     * after the eye was paused has no previous tick to measure against. If the frame of the
+     * previous tick has not been painted yet, it is counted as coalesced, as Swing paints one
+     * frame for both ticks.
+     *
+     * @param expected {@link Long} The expected time since the previous tick, in nanoseconds.
+     * @author Griefed
+     */
+    private void recordTick(long expected) {
+      long now = System.nanoTime();
+      long jitter = -1L;
+      boolean late = false;
+      if (lastTick != 0L) {
+        long elapsed = now - lastTick;
+        jitter = Math.abs(elapsed - expected);
+        late = elapsed > expected + expected / 2L;
+      }
+      lastTick = now;
+      frameRecorder.tick(jitter, late, repaintPending);
+      repaintPending = true;
+    }
+
+    /**
+     * Get the CPU time of the current thread, for attributing the cost of ticks to this eye. Falls
+     * back to elapsed time if the JVM does not measure the CPU time of threads.
+     *
+     * @return {@link Long} The CPU time of the current thread in nanoseconds.
+     * @author Griefed
+     */
+    private long threadCpuTime() {
+      return THREAD_CPU_TIME ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * Let the given group move this eye from now on. The animator of the eye waits until the eye
+     * leaves the group again.
+     *
+     * @param group {@link ScannerGroup} The group the eye joins.
+     * @author Griefed
+     */
+    private synchronized void joinGroup(@NotNull ScannerGroup group) {
+      this.group = group;
+    }
 
-        double startOfElement = calcCylonRectStart(element);
+    /**
+     * Return the eye to its own animator, if it is a member of the given group.
+     *
+     * @param group {@link ScannerGroup} The group the eye leaves.
+     * @author Griefed
+     */
+    private synchronized void leaveGroup(@NotNull ScannerGroup group) {
+      if (this.group == group) {
+        this.group = null;
+        animator.wake();
+      }
+    }
+
+    /**
+     * Move the eye to the phase of the sweep of the given group and draw it. The phase is scaled
+     * to the range the animation model of the eye sweeps across, and looked up from the table of
+     * eased positions if an easing profile is used, so every member of the group is at the same
+     * point of its sweep regardless of its width. Afterglow and additional eyes are updated just
+     * like with {@link #updatePosition()}. Nothing happens if the eye is paused or not a member of
+     * the group.
+     *
+     * @param group {@link ScannerGroup} The group moving the eye.
+     * @param sweepPhase {@link Double} The phase of the sweep, from <code>0</code> at the start to
+     *     <code>1</code> at the end of the range.
+     * @param increasing {@link Boolean} Whether the group currently sweeps from left to right.
+     * @author Griefed
+     */
+    private synchronized void follow(
+        @NotNull ScannerGroup group, double sweepPhase, boolean increasing) {
+      if (this.group != group || paused) {
+        lastTick = 0L;
+        return;
+      }
 
-        if (useGradients) {
-          int median = (numberOfElements + 1) / 2;
+      Object event = ScannerEvents.begin(ScannerEvents.TICK);
+      long cpuStart = threadCpuTime();
+      recordTick(group.interval * 1_000_000L);
+      EyeState state = this.state;
+      engine.moveTo(state.model, state.gapped, state.easing, sweepPhase, increasing);
 
-          if (element + 1 < median) {
+      if (state.afterglow) {
+        engine.updateAfterglow(engine.eye, state.useDivider, group.divider);
+      }
 
-            g2d.setPaint(ascCylonRectGradient(element, startOfElement));
+      double pace = speed;
+      int steps = stepsAtPace(state.useDivider, pace);
+      for (int step = 0; step < steps; step++) {
+        for (Sweep sweep : sweeps) {
+          updateSweep(sweep, state.afterglow, pace);
+        }
+      }
+      frameRecorder.tickCpu(threadCpuTime() - cpuStart);
+      commitEvent(event, null);
+      repaint();
+    }
 
-          } else if (element + 1 == median) {
+    /**
+     * Apply a configuration to the eye. The state created from it replaces the current one as a
+     * whole, so the animator and painting pick up all of its settings with their next tick or
+     * frame. Only data affected by settings which differ from the current state is derived anew,
+     * and a configuration with the same settings as the current state changes nothing at all.
+     *
+     * @param config {@link ScannerConfig} The configuration to apply.
+     * @throws IllegalArgumentException if the configuration is invalid. The state of the eye
+     *     remains unchanged in that case.
+     * @author Griefed
+     */
+    private void apply(@NotNull ScannerConfig config) throws IllegalArgumentException {
+      synchronized (stateLock) {
+        if (disposed) {
+          return;
+        }
+        Object event = ScannerEvents.begin(ScannerEvents.APPLY);
+        try {
+          EyeState newState = new EyeState(config, state);
+          if (newState.sameSettings(state)) {
+            newState.style.release();
+          } else {
+            state.style.release();
+            state = newState;
+            transition = null;
+            deriveSweeps(sweeps);
+          }
+        } finally {
+          commitEvent(event, "apply");
+        }
+      }
+    }
 
-            g2d.setPaint(eyeColours[element]);
+    /**
+     * Transition the eye to a configuration over the given duration. The state created from the
+     * configuration replaces the current one right away, while colours, alphas, interval, divider,
+     * gap and partition divider are interpolated from the current state until the duration has
+     * passed. If the number of elements or the orientation changes, or the duration is zero, the
+     * configuration is applied without a transition.
+     *
+     * @param config {@link ScannerConfig} The configuration to transition to.
+     * @param duration {@link Long} The duration of the transition in nanoseconds.
+     * @throws IllegalArgumentException if the configuration is invalid. The state of the eye
+     *     remains unchanged in that case.
+     * @author Griefed
+     */
+    private void transitionTo(@NotNull ScannerConfig config, long duration)
+        throws IllegalArgumentException {
+      synchronized (stateLock) {
+        if (disposed) {
+          return;
+        }
+        Object event = ScannerEvents.begin(ScannerEvents.APPLY);
+        try {
+          EyeState from = state;
+          EyeState to = new EyeState(config, from);
+          if (to.sameSettings(from)) {
+            to.style.release();
+            return;
+          }
 
+          from.style.release();
+          state = to;
+          if (duration > 0
+              && to.numberOfElements == from.numberOfElements
+              && to.orientation == from.orientation) {
+            transition = new Transition(from, to, duration);
           } else {
+            transition = null;
+          }
+          deriveSweeps(sweeps);
+        } finally {
+          commitEvent(event, "transition");
+        }
+      }
+    }
+
+    /**
+     * Add an additional eye, deriving its state from the current state of the primary eye.
+     *
+     * @param sweep {@link Sweep} The additional eye to add.
+     * @author Griefed
+     */
+    private void addSweep(@NotNull Sweep sweep) {
+      synchronized (stateLock) {
+        if (disposed) {
+          return;
+        }
+        deriveSweeps(new Sweep[] {sweep});
+        Sweep[] added = Arrays.copyOf(sweeps, sweeps.length + 1);
+        added[sweeps.length] = sweep;
+        sweeps = added;
+      }
+    }
+
+    /**
+     * Remove all additional eyes, releasing their styles.
+     *
+     * @author Griefed
+     */
+    private void removeSweeps() {
+      synchronized (stateLock) {
+        if (disposed) {
+          return;
+        }
+        for (Sweep sweep : sweeps) {
+          sweep.state.style.release();
+        }
+        sweeps = new Sweep[0];
+      }
+    }
+
+    /**
+     * Derive the states of the given additional eyes from the current state of the primary eye,
+     * replacing their colours and dividers with their own. Must be called while holding the
+     * state lock.
+     *
+     * @param toDerive {@link Sweep}-array of additional eyes to derive the states of.
+     * @throws IllegalArgumentException if the state of an additional eye can not be derived.
+     * @author Griefed
+     */
+    private void deriveSweeps(@NotNull Sweep @NotNull [] toDerive)
+        throws IllegalArgumentException {
+      if (toDerive.length == 0) {
+        return;
+      }
+
+      Color background = LarsonScanner.this.getBackground();
+      for (Sweep sweep : toDerive) {
+        Color[] colours = new Color[state.numberOfElements];
+        Arrays.fill(colours, sweep.colour);
+
+        ScannerConfig config = state.toConfig(background);
+        config.setEyeColours(colours);
+        config.setDivider(sweep.divider);
+
+        EyeState previous = sweep.state;
+        sweep.state = new EyeState(config, previous);
+        if (previous != null) {
+          previous.style.release();
+        }
+      }
+    }
+
+    /**
+     * End the given transition, unless it was already replaced by another one.
+     *
+     * @param finished {@link Transition} The transition which has finished.
+     * @author Griefed
+     */
+    private void finishTransition(@NotNull Transition finished) {
+      synchronized (stateLock) {
+        if (transition == finished) {
+          transition = null;
+        }
+      }
+    }
+
+    /**
+     * Get the interval at which to update the eye, interpolated if a transition is running.
+     *
+     * @return {@link Short} The current interval in milliseconds.
+     * @author Griefed
+     */
+    private short currentInterval() {
+      Transition transition = this.transition;
+      if (transition == null) {
+        return state.interval;
+      }
+      return transition.interval(transition.step(System.nanoTime()));
+    }
+
+    /**
+     * Change one or more settings of the eye. The given change is applied to a configuration
+     * created from the current state, from which the new state is created and applied. Changes
+     * made from different threads at the same time are applied one after another, so none of them
+     * gets lost.
+     *
+     * @param change {@link Consumer} The change to apply to the configuration of the eye.
+     * @throws IllegalArgumentException if the change results in an invalid configuration. The
+     *     state of the eye remains unchanged in that case.
+     * @author Griefed
+     */
+    private void update(@NotNull Consumer<ScannerConfig> change) throws IllegalArgumentException {
+      synchronized (stateLock) {
+        ScannerConfig config = state.toConfig(LarsonScanner.this.getBackground());
+        change.accept(config);
+        apply(config);
+      }
+    }
+
+    /**
+     * Draw the eye! Depending on whether oval shape is selected or gradients are to be used, the
+     * eye is drawn in different ways. However, all draw calls come from here. I guess you could say
+     * that this is the heart and soul of the eye itself. The eyeball, mayhaps? For details on how
+     * each animation behaves, see {@link LarsonScanner#useCylonAnimation(boolean)}.
+     *
+     * <p>The positions and directions of all eyes are copied once per frame, under the monitor the
+     * animator moves them under, so every frame draws all eyes at one consistent tick.
+     *
+     * <p>The time it takes to paint the eye is recorded for the frame metrics, see {@link
+     * FrameMetrics}.
+     *
+     * @param g the <code>Graphics</code> object to protect
+     * @author Griefed
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+      long paintStart = System.nanoTime();
+      Object paintEvent = ScannerEvents.begin(ScannerEvents.PAINT);
+      super.paintComponent(g);
+
+      EyeState state = this.state;
+      Transition transition = this.transition;
+      if (transition != null) {
+        transitionStep = transition.step(System.nanoTime());
+
+        if (transition.to != state || transitionStep == Transition.STEPS) {
+          finishTransition(transition);
+          transition = null;
+        }
+      }
 
-            g2d.setPaint(descCylonRectGradient(element, startOfElement));
+      activeTransition = transition;
+      Object stageEvent = ScannerEvents.begin(ScannerEvents.PAINT_STAGE);
+      updateValues(state);
+      commitEvent(stageEvent, "values");
+
+      Graphics2D g2d = (Graphics2D) g;
+
+      if (calibrateQuality
+          && !qualityCalibrated
+          && engine.elementWidth > 0.0D
+          && engine.height > 0.0D) {
+        stageEvent = ScannerEvents.begin(ScannerEvents.PAINT_STAGE);
+        calibrateQuality(g2d, state);
+        commitEvent(stageEvent, "calibration");
+
+        // A cached quality was applied, which ends a running transition.
+        if (this.state != state) {
+          state = this.state;
+          if (activeTransition != null) {
+            activeTransition = null;
+            updateValues(state);
           }
+        }
+      }
+
+      stageEvent = ScannerEvents.begin(ScannerEvents.PAINT_STAGE);
+      synchronized (this) {
+        drawnPosition = engine.eye.position;
+        drawnIncreasing = engine.eye.increasing;
+        for (Sweep sweep : sweeps) {
+          sweep.snapshot();
+        }
+      }
+      paintEye(g2d, state);
+      commitEvent(stageEvent, "eye");
+      activeTransition = null;
 
+      stageEvent = ScannerEvents.begin(ScannerEvents.PAINT_STAGE);
+      Toolkit.getDefaultToolkit().sync();
+      commitEvent(stageEvent, "sync");
+
+      repaintPending = false;
+      frameRecorder.frame(System.nanoTime() - paintStart);
+      commitEvent(paintEvent, null);
+
+      DebugOverlay debugOverlay = this.debugOverlay;
+      if (debugOverlay != null) {
+        ScannerGroup group = this.group;
+        long targetInterval;
+        if (group != null) {
+          targetInterval = group.interval;
+        } else if (paused) {
+          targetInterval = 0L;
         } else {
-          g2d.setColor(eyeColours[element]);
+          targetInterval = Math.max(currentInterval(), minimumInterval);
         }
+        debugOverlay.draw(
+            g2d,
+            frameRecorder,
+            targetInterval,
+            state.quality,
+            spriteLookups,
+            spritesRendered,
+            spritesRead);
+      }
+    }
 
-        g2d.fillRect((int) startOfElement, startY, (int) elementWidth, (int) height);
+    /**
+     * Commit a Java Flight Recorder event of this eye, begun with {@link
+     * ScannerEvents#begin(int)}, for the current tick. Does nothing if the event is not recorded.
+     *
+     * @param event {@link Object} The event to commit, or <code>null</code>.
+     * @param detail {@link String} The stage or cache the event covers, or <code>null</code>.
+     * @author Griefed
+     */
+    private void commitEvent(@Nullable Object event, @Nullable String detail) {
+      if (event != null) {
+        ScannerEvents.commit(event, instanceId, frameRecorder.ticks.get(), detail);
       }
     }
 
     /**
-     * Calculate the play of an element in rectangular shape. Steps are:
+     * Paint the background of the eye and all of its elements, at the position and direction to
+     * draw, with the given graphics. Used for painting the component as well as for rendering
+     * offscreen. The position and direction of the eye are never changed while painting.
      *
-     * <ul>
-     *   <li><strong>Calculate the width of a gap:</strong>
-     *       <ul>
-     *         <li>Divide the width of one element by 100
-     *         <li>multiply with the currently set gap-percentage. (Default <code>25.0f</code>
-     *       </ul>
-     *   <li><strong>Calculate the half of the total gap width, across all elements:</strong>
-     *       <ul>
-     *         <li>Subtract two from the number of elements in the eye. No gaps before the first, or
-     *             after the last element, we only care about the ones between.
-     *         <li>multiply with the width of one gap
-     *         <li>divide by two
-     *       </ul>
-     *   <li><strong>When the current element is the first of all elements in the eye:</strong>
-     *       <ul>
-     *         <li>Multiply the width of an element with the number of elements in the eye. Divide
-     *             by two
-     *         <li>subtract the previously calculated half of the total gap width, across all
-     *             elements
-     *         <li>subtract that from the current position in the eye being drawn at
-     *       </ul>
-     *   <li><strong>When the current element is not the first of all elements in the eye:</strong>
-     *       <ul>
-     *         <li>Multiply the width of an element with the number of elements in the eye. Divide
-     *             by two
-     *         <li>subtract the previously calculated half of the total gap width, across all
-     *             elements
-     *         <li>add the width of one element to the gap width, multiply with the number of the
-     *             element currently being drawn
-     *         <li>Subtract that from the current position in the eye being drawn at
-     *       </ul>
-     * </ul>
+     * <p>The geometry of the eye is not updated here, so {@link #updateValues(EyeState)} must have
+     * been called for the state, and the transition being painted, beforehand.
+     *
+     * @param g2d {@link Graphics2D} to fill and draw with.
+     * @param state {@link EyeState} The state of the eye to paint.
+     * @author Griefed
+     */
+    private void paintEye(@NotNull Graphics2D g2d, @NotNull EyeState state) {
+      state.style.applyPaintHints(g2d);
+
+      byte startY = 0;
+
+      if (activeTransition == null) {
+        g2d.setColor(state.background);
+      } else {
+        g2d.setColor(activeTransition.background(transitionStep));
+      }
+      int orientation = engine.getOrientation();
+      if (orientation == ScannerConfig.ORIENTATION_HORIZONTAL) {
+        g2d.fillRect(0, 0, (int) engine.width, (int) engine.height);
+      } else if (orientation == ScannerConfig.ORIENTATION_VERTICAL) {
+        g2d.fillRect(0, 0, (int) engine.height, (int) engine.width);
+      } else {
+        g2d.fillRect(0, 0, (int) engine.componentWidth, (int) engine.componentHeight);
+      }
+
+      if (engine.elementWidth <= 0.0D || engine.height <= 0.0D) {
+        return;
+      }
+
+      /*
+       * Elements are blitted from sprites rendered at the native resolution of the device, so we
+       * switch to a translation-only transform for drawing them and restore the user space
+       * transform afterwards. Device coordinates are rounded once, which keeps the edges of each
+       * element sharp on scaled displays.
+       */
+      AffineTransform userTransform = g2d.getTransform();
+      scaleX = userTransform.getScaleX();
+      scaleY = userTransform.getScaleY();
+      spriteWidth = Math.max(1, (int) Math.round(engine.elementWidth * scaleX));
+      spriteHeight = Math.max(1, (int) Math.round(engine.height * scaleY));
+      if (activeTransition == null) {
+        SpriteCache spriteCache =
+            calibrationSprites == null ? state.style.spriteCache : calibrationSprites;
+        sprites = spriteCache.forSize(state.numberOfElements, spriteWidth, spriteHeight);
+      } else if (activeTransition.spriteWidth == 0) {
+        activeTransition.size(
+            LarsonScanner.this.getWidth(), LarsonScanner.this.getHeight(), scaleX, scaleY);
+      }
+      deviceTransform.setToTranslation(
+          Math.round(userTransform.getTranslateX()), Math.round(userTransform.getTranslateY()));
+      g2d.setTransform(deviceTransform);
+
+      if (state.afterglow) {
+        drawAfterglow(g2d, state, startY);
+      }
+
+      drawEye(g2d, state, startY);
+
+      Sweep[] sweeps = this.sweeps;
+      if (sweeps.length > 0) {
+        drawSweeps(g2d, sweeps, startY);
+      }
+
+      g2d.setTransform(userTransform);
+      g2d.drawRect(-10, -10, (int) engine.width+20, (int) engine.height+20);
+    }
+
+    /**
+     * Draw all elements of one eye at the position currently being drawn, as laid out by the
+     * animation model of its state. With the afterglow active, only the head of the eye is drawn,
+     * as its trail is drawn once for all eyes.
+     *
+     * @param g2d {@link Graphics2D} to draw with.
+     * @param state {@link EyeState} The state of the eye to draw.
+     * @param startY {@link Byte} The play of an element along the Y-axis.
+     * @author Griefed
+     */
+    private void drawEye(@NotNull Graphics2D g2d, @NotNull EyeState state, byte startY) {
+      if (state.afterglow) {
+
+        drawElement(
+            g2d,
+            state,
+            CYLON,
+            (byte) (state.numberOfElements / 2),
+            drawnPosition - engine.elementWidth / 2.0D,
+            startY);
+
+      } else {
+
+        int count = engine.layout(state.model, state.gapped, drawnPosition, drawnIncreasing);
+        for (int index = 0; index < count; index++) {
+          drawElement(
+              g2d,
+              state,
+              engine.getElementVariant(index),
+              engine.getElementNumber(index),
+              engine.getElementStart(index),
+              startY);
+        }
+      }
+    }
+
+    /**
+     * Draw the additional eyes on top of the primary eye, each with the sprites of its own style.
+     * While the primary eye is transitioning, the additional eyes are drawn with sprites of the
+     * size of the sprites of the transition, scaled like them, so no sprites are rendered for the
+     * intermediate sizes.
+     *
+     * @param g2d {@link Graphics2D} to draw with. Must have a translation-only transform set.
+     * @param sweeps {@link Sweep}-array of additional eyes to draw.
+     * @param startY {@link Byte} The play of an element along the Y-axis.
+     * @author Griefed
+     */
+    private void drawSweeps(
+        @NotNull Graphics2D g2d, @NotNull Sweep @NotNull [] sweeps, byte startY) {
+      Transition transition = activeTransition;
+      SpriteCache.Sprites primarySprites = sprites;
+      int sweepWidth = transition == null ? spriteWidth : transition.spriteWidth;
+      int sweepHeight = transition == null ? spriteHeight : transition.spriteHeight;
+
+      activeTransition = null;
+      for (Sweep sweep : sweeps) {
+        EyeState sweepState = sweep.state;
+        if (!sweep.drawnPlaced || sweepState.numberOfElements != state.numberOfElements) {
+          continue;
+        }
+
+        drawnPosition = sweep.drawnPosition;
+        drawnIncreasing = sweep.drawnIncreasing;
+        sprites =
+            sweepState.style.spriteCache.forSize(
+                sweepState.numberOfElements, sweepWidth, sweepHeight);
+        drawEye(g2d, sweepState, startY);
+      }
+      activeTransition = transition;
+      sprites = primarySprites;
+    }
+
+    /**
+     * Start sampling the given metric for the speed of the eye, replacing the metric sampled so
+     * far. Every sample is mapped by the curve and published to {@link #speed}, which is all
+     * updating the eye reads.
+     *
+     * @param metric {@link DoubleSupplier} The metric to sample.
+     * @param sampleInterval {@link Long} The interval in milliseconds at which to sample.
+     * @param curve {@link DoubleUnaryOperator} Maps a value of the metric to a speed.
+     * @author Griefed
+     */
+    private void bindSpeed(
+        @NotNull DoubleSupplier metric, long sampleInterval, @NotNull DoubleUnaryOperator curve) {
+      synchronized (stateLock) {
+        if (disposed) {
+          return;
+        }
+        if (speedSampling != null) {
+          speedSampling.cancel(false);
+        }
+        long binding = ++speedBinding;
+        speedSampling =
+            speedSampler()
+                .scheduleAtFixedRate(
+                    () -> sampleSpeed(metric, curve, binding),
+                    0L,
+                    sampleInterval,
+                    TimeUnit.MILLISECONDS);
+      }
+    }
+
+    /**
+     * Stop sampling the metric for the speed of the eye and reset the speed to <code>1</code>.
      *
-     * @param element {@link Byte} The number of the element currently being drawn.
-     * @return {@link Double} The X-coordinate where the current element starts.
      * @author Griefed
      */
-    private double calcCylonRectStart(byte element) {
-      if (element == 0) {
-        return p - (elementWidth * numberOfElements / 2.0D) - halfOfTotalGapWidth;
-
-      } else {
-        return p
-            - (elementWidth * numberOfElements / 2.0D)
-            - halfOfTotalGapWidth
-            + (elementWidth + gapWidth) * element;
+    private void unbindSpeed() {
+      synchronized (stateLock) {
+        if (speedSampling != null) {
+          speedSampling.cancel(false);
+          speedSampling = null;
+        }
+        speedBinding++;
+        speed = 1.0D;
       }
     }
 
     /**
-     * Create the gradient for the currently being drawn, rectangular-shaped, element, when the
-     * element is to the left of the center element and when animating as a Cylon-eye. Elements to
-     * the left of the center element must have gradients which increase in color intensity towards
-     * the center of the eye.
-     *
-     * <p>Every gradient for these rectangular shapes is drawn from:
-     *
-     * <ul>
-     *   <li><code>X-coordinate:</code> Acquired from {@link #calcCylonRectStart(byte)}
-     *   <li><code>Y-coordinate:</code> Half of the height of one element.
-     * </ul>
-     *
-     * to:
-     *
-     * <ul>
-     *   <li><code>X-coordinate:</code> Acquired from {@link #calcCylonRectStart(byte)} plus the
-     *       width of one element.
-     *   <li><code>Y-coordinate:</code> Half of the height of one element.
-     * </ul>
+     * Sample the metric once and publish the speed it maps to. Negative speeds and results which
+     * are not a number stop the eye. If the metric or the curve throws, the previous speed is
+     * kept, as an exception would end the sampling for good. A sample finishing after its binding
+     * was replaced or removed is discarded.
      *
-     * @param element {@link Byte} The number of the current element being drawn.
-     * @param startX {@link Double} The X-coordinate where the current element starts.
-     * @return {@link GradientPaint} The gradient with which to draw the current element.
+     * @param metric {@link DoubleSupplier} The metric to sample.
+     * @param curve {@link DoubleUnaryOperator} Maps a value of the metric to a speed.
+     * @param binding {@link Long} The binding the sample belongs to.
      * @author Griefed
      */
-    @Contract("_, _ -> new")
-    private @NotNull GradientPaint ascCylonRectGradient(byte element, double startX) {
-      return new GradientPaint(
-          (float) startX,
-          (float) (height / 2.0D),
-          colorWithAlpha((short) (alphas[element] - alphas[element] / 2), eyeColours[element]),
-          (float) (startX + elementWidth),
-          (float) (height / 2.0D),
-          colorWithAlpha(alphas[element], eyeColours[element]));
+    private void sampleSpeed(
+        @NotNull DoubleSupplier metric, @NotNull DoubleUnaryOperator curve, long binding) {
+      double sampled;
+      try {
+        sampled = curve.applyAsDouble(metric.getAsDouble());
+      } catch (RuntimeException ignored) {
+        return;
+      }
+
+      synchronized (stateLock) {
+        if (binding == speedBinding) {
+          speed = sampled > 0.0D ? sampled : 0.0D;
+        }
+      }
     }
 
     /**
-     * Create the gradient for the currently being drawn, rectangular-shaped, element, when the
-     * element is to the right of the center element and when animating as a Cylon-eye. Elements to
-     * the right of the center element must have gradients which decrease in color intensity towards
-     * the end of the eye.
-     *
-     * <p>Every gradient for these rectangular shapes is drawn from:
-     *
-     * <ul>
-     *   <li><code>X-coordinate:</code> Acquired from {@link #calcCylonRectStart(byte)}
-     *   <li><code>Y-coordinate:</code> Half of the height of one element.
-     * </ul>
-     *
-     * to:
-     *
-     * <ul>
-     *   <li><code>X-coordinate:</code> Acquired from {@link #calcCylonRectStart(byte)} plus the
-     *       width of one element.
-     *   <li><code>Y-coordinate:</code> Half of the height of one element.
-     * </ul>
+     * Pause the animation of the eye.
      *
-     * @param element {@link Byte} The number of the current element being drawn.
-     * @param startX {@link Double} The X-coordinate where the current element starts.
-     * @return {@link GradientPaint} The gradient with which to draw the current element.
      * @author Griefed
      */
-    @Contract("_, _ -> new")
-    private @NotNull GradientPaint descCylonRectGradient(byte element, double startX) {
-      return new GradientPaint(
-          (float) startX,
-          (float) (height / 2.0D),
-          colorWithAlpha(alphas[element], eyeColours[element]),
-          (float) (startX + elementWidth),
-          (float) (height / 2.0D),
-          colorWithAlpha((short) (alphas[element] - alphas[element] / 2), eyeColours[element]));
+    private synchronized void pauseAnimation() {
+      paused = true;
     }
 
     /**
-     * Draw our elements in oval shape, starting from the current position to the current position
-     * plus the width of the eye. If <code>useGradient</code> is set, then gradients are used for
-     * painting, otherwise our ovals are painted with solid colours. For details on how this
-     * animation behaves, see {@link LarsonScanner#useCylonAnimation(boolean)}.
+     * Continue the animation of the eye.
      *
-     * @param g2d {@link Graphics2D} to fill and draw with.
-     * @param startY {@link Byte} The play of an element along the Y-axis.
      * @author Griefed
      */
-    private void drawKittOval(@NotNull Graphics2D g2d, byte startY) {
-
-      double startOfElement;
-      double posDrawn;
-      byte elementToDraw;
-
-      for (byte element = 0; element < numberOfElements; element++) {
-
-        startOfElement = calcKittOvalStart(element);
-
-        addKittOval(g2d, startY, startOfElement, element);
+    private synchronized void playAnimation() {
+      if (disposed) {
+        return;
       }
+      paused = false;
+      animator.wake();
+    }
 
-      if (increasePosition) {
-        // Going left to right
-
-        posDrawn = p + numberOfElements * elementWidth;
-
-        if (posDrawn > width) {
-          /*
-           * We are entering the nether on the right side, so we draw the brightest element at the
-           * most right position to create the illusion of the elements gathering.
-           */
-          startOfElement = width - elementWidth;
-          if (useGradients) {
-            g2d.setPaint(
-                kittRadialGradient(
-                    (byte) (numberOfElements - 1),
-                    getCenter(startOfElement),
-                    eyeColours[numberOfElements - 1]));
-          } else {
-            g2d.setColor(eyeColours[numberOfElements - 1]);
-          }
-          g2d.fillOval((int) startOfElement, startY, (int) elementWidth, (int) height);
-
-        } else if (p < 0) {
-          /*
-           * We are leaving the nether on the left side, so we need to draw that the next element
-           * after the ones already visible to create the illusion of the eye emerging.
-           */
-          elementToDraw = (byte) (numberOfElements - (posDrawn / elementWidth) - 1);
-
-          if (useGradients) {
-            g2d.setPaint(
-                kittRadialGradient(elementToDraw, getCenter(0), eyeColours[elementToDraw]));
-          } else {
-            g2d.setColor(eyeColours[elementToDraw]);
-          }
-          g2d.fillOval(0, startY, (int) elementWidth, (int) height);
+    /**
+     * Dispose of the eye, ending its animator and releasing the styles of all of its eyes. The
+     * states stay in place, so the eye can still be painted, but they are not replaced anymore.
+     *
+     * @author Griefed
+     */
+    private void dispose() {
+      synchronized (this) {
+        if (disposed) {
+          return;
         }
+        disposed = true;
+        paused = true;
+        animator.wake();
+      }
 
-      } else {
-        // Going right to left
-
-        posDrawn = p - numberOfElements * elementWidth;
-
-        if (posDrawn <= 0) {
-          /*
-           * We are entering the nether on the left side, so we draw the brightest element at the
-           * most left position to create the illusion of the elements gathering.
-           */
-          if (useGradients) {
-            g2d.setPaint(
-                kittRadialGradient(
-                    (byte) (numberOfElements - 1), getCenter(0), eyeColours[numberOfElements - 1]));
-          } else {
-            g2d.setColor(eyeColours[numberOfElements - 1]);
-          }
-          g2d.fillOval(0, startY, (int) elementWidth, (int) height);
-
-        } else if (p >= width) {
-          /*
-           * We are leaving the nether on the right side, so we need to draw the next element
-           * after the ones already visible to create the illusion of the eye emerging.
-           */
-          startOfElement = width - elementWidth;
-          elementToDraw = (byte) ((p - width) / elementWidth);
-
-          if (elementToDraw >= numberOfElements) {
-            elementToDraw = (byte) (numberOfElements - 1);
-          }
-
-          if (elementToDraw < numberOfElements) {
-            addKittOval(g2d, startY, startOfElement, elementToDraw);
-          }
+      synchronized (stateLock) {
+        state.style.release();
+        for (Sweep sweep : sweeps) {
+          sweep.state.style.release();
         }
+        transition = null;
       }
     }
 
     /**
-     * Helper method to slightly cleanup {@link #drawKittOval(Graphics2D, byte)}.
+     * Toggle the current state of the animation.
+     *
+     * <p>If the animation is paused, then invoking this will unpause it.
+     *
+     * <p>If the animation is not paused, then invoking this will pause it.
      *
-     * @param g2d {@link Graphics2D} to fill and draw with.
-     * @param startY {@link Byte} The play of an element along the Y-axis.
-     * @param startOfElement {@link Double} The play of the current element along the Larson
-     *     Scanner.
-     * @param element {@link Byte} The element we are currently drawing.
      * @author Griefed
      */
-    private void addKittOval(
-        @NotNull Graphics2D g2d, byte startY, double startOfElement, byte element) {
-      if (useGradients) {
-        g2d.setPaint(kittRadialGradient(element, getCenter(startOfElement), eyeColours[element]));
-      } else {
-        g2d.setColor(eyeColours[element]);
+    private synchronized void togglePauseUnpause() {
+      if (disposed) {
+        return;
       }
+      paused = !paused;
 
-      g2d.fillOval((int) startOfElement, startY, (int) elementWidth, (int) height);
+      if (!paused) {
+        animator.wake();
+      }
     }
 
     /**
-     * Calculate the play of an element in oval shape when animating in Kitt-style and moving from
-     * left to right, or right to left, depending on the direction.
-     *
-     * <p><strong>left to right:</strong>
-     *
-     * <ul>
-     *   <li>Multiply the element currently being drawn with the width of one element
-     *   <li>add the previous to the current position from which we are drawing
-     * </ul>
-     *
-     * The element width multiplied with the element currently being drawn, then added on top of the
-     * current position in the Larson Scanner, results in the starting point along the X-axis from
-     * which to draw the current element.
-     *
-     * <p><strong>right to left</strong>
-     *
-     * <ul>
-     *   <li>Multiply the element currently being drawn, plus 1, with the width of one element
-     *   <li>subtract the previous from the current position from which we are drawing
-     * </ul>
-     *
-     * The element width multiplied with the element currently being drawn, plus 1 because we want
-     * the element right from the leftmost one, then subtracted from the current position in the
-     * Larson Scanner, results in the starting point along the X-axis from which to draw the current
-     * element.
+     * Get the current status of the animation, whether it is paused or not.
      *
-     * @param element {@link Byte} The number of the currently being drawn element, ranging from 0
-     *     to the amount of elements in the eye.
-     * @return {@link Double} The X-coordinate where the current element starts.
+     * @return {@link Boolean} Status of the animation. <code>true</code> if it is paused, false
+     *     otherwise.
      * @author Griefed
      */
-    private double calcKittOvalStart(byte element) {
-      if (increasePosition) {
-        return p + element * elementWidth;
-      } else {
-        return p - (element + 1) * elementWidth;
-      }
+    private synchronized boolean isRunning() {
+      return paused;
     }
 
     /**
-     * Create the radial gradient for the currently being drawn, oval-shaped, element, when
-     * animating Kitt-style. Radial gradients extend from the 2D center point of the current element
-     * to the height of one element. As the alpha decreases in the Kitt-style animation, we work
-     * with percentages of 255, where an alpha value of 255 equals 0 transparency.
+     * Select the rendering quality of the eye with a short offscreen benchmark, or reuse the result
+     * of a previous benchmark in this JVM for the same graphics configuration, style and size of
+     * the eye. See {@link LarsonScanner#useQualityCalibration(boolean)} for details.
+     *
+     * <p>The benchmark runs on the shared calibration thread, so painting is not held up while it
+     * renders its frames. It paints a separate eye of this Larson Scanner, which is never shown and
+     * has no animator, with sprites of its own, so it shares nothing mutable with this eye. Until
+     * the benchmark is done, this eye keeps painting at its current quality.
      *
-     * @param element {@link Byte} The number of the element currently being drawn.
-     * @param centerX {@link Double} The X-coordinate of the center of the element currently being
-     *     drawn.
-     * @param color {@link Color} The color of the element currently being drawn.
-     * @return {@link RadialGradientPaint} A radial gradient for the currently being drawn,
-     *     oval-shaped, element.
+     * @param g2d {@link Graphics2D} the eye is about to be painted with.
+     * @param state {@link EyeState} The current state of the eye.
      * @author Griefed
      */
-    private @NotNull RadialGradientPaint kittRadialGradient(
-        byte element, double centerX, @NotNull Color color) {
+    private void calibrateQuality(@NotNull Graphics2D g2d, @NotNull EyeState state) {
+      qualityCalibrated = true;
+
+      AffineTransform transform = g2d.getTransform();
+      GraphicsConfiguration configuration = g2d.getDeviceConfiguration();
+      String key =
+          configuration.getDevice().getIDstring()
+              + "@"
+              + transform.getScaleX()
+              + "x"
+              + transform.getScaleY()
+              + ":"
+              + (int) engine.width
+              + "x"
+              + (int) engine.height
+              + ","
+              + state.numberOfElements
+              + ","
+              + state.interval
+              + ","
+              + state.renderer.getClass().getName()
+              + ","
+              + state.useGradients
+              + ","
+              + state.model.getClass().getName();
+
+      Integer quality = CALIBRATED_QUALITIES.get(key);
+      if (quality != null) {
+        int calibrated = quality;
+        update(config -> config.setQualitySetting(calibrated));
+        return;
+      }
 
-      short alpha = (short) (255.0D / numberOfElements * (double) (element + 1));
-      Color[] colors = {colorWithAlpha(alpha, color), getBackground()};
-      return new RadialGradientPaint(
-          new Point((int) centerX, (int) (height / 2)), (float) (0.5f * height), fractions, colors);
+      Eye probe = new Eye();
+      double scaleX = transform.getScaleX();
+      double scaleY = transform.getScaleY();
+      calibrator()
+          .execute(
+              () -> {
+                int calibrated;
+                try {
+                  calibrated = probe.measureQuality(configuration, state, scaleX, scaleY);
+                } finally {
+                  probe.dispose();
+                }
+                CALIBRATED_QUALITIES.putIfAbsent(key, calibrated);
+
+                if (calibrateQuality) {
+                  update(config -> config.setQualitySetting(calibrated));
+                  repaint();
+                }
+              });
     }
 
     /**
-     * Draw our element in rectangular shape. If <code>useGradient</code> is set, then gradients are
-     * used for painting, otherwise our rectangles are painted with solid colours. For details on
-     * how this animation behaves, see {@link LarsonScanner#useCylonAnimation(boolean)}.
+     * Render a short burst of frames offscreen for every rendering quality, from low to high, and
+     * return the highest quality whose average frame fits into the frame budget. The frame budget
+     * is a share of the interval at which the eye is updated, leaving the rest of the interval to
+     * the remainder of the UI. One frame per quality is rendered before measuring, so rendering the
+     * sprites does not count towards the average.
      *
-     * @param g2d {@link Graphics2D} to fill and draw with.
-     * @param startY {@link Byte} The play of an element along the Y-axis.
+     * <p>The frames are drawn at positions across the whole width. Every quality renders its
+     * sprites into a cache of its own, as the sprites of the styles are shared with the eyes
+     * painted on the event dispatch thread.
+     *
+     * @param configuration {@link GraphicsConfiguration} of the device the eye is painted on.
+     * @param state {@link EyeState} The current state of the eye.
+     * @param scaleX {@link Double} The horizontal scale of the device.
+     * @param scaleY {@link Double} The vertical scale of the device.
+     * @return {@link Integer} The highest rendering quality fitting into the frame budget.
      * @author Griefed
      */
-    private void drawKittRect(@NotNull Graphics2D g2d, byte startY) {
-
-      double startOfElement;
-      double posDrawn;
-      byte elementToDraw;
-
-      for (byte element = 0; element < numberOfElements; element++) {
+    private int measureQuality(
+        @NotNull GraphicsConfiguration configuration,
+        @NotNull EyeState state,
+        double scaleX,
+        double scaleY) {
+      updateValues(state);
+      BufferedImage target =
+          configuration.createCompatibleImage(
+              Math.max(1, (int) Math.ceil(engine.width * scaleX)),
+              Math.max(1, (int) Math.ceil(engine.height * scaleY)));
+      Graphics2D g2d = target.createGraphics();
+      g2d.scale(scaleX, scaleY);
+
+      ScannerConfig config = state.toConfig(LarsonScanner.this.getBackground());
+      long budget = state.interval * 1000000L / CALIBRATION_BUDGET_SHARE;
+      int chosen = ScannerConfig.LOW;
+
+      for (int quality = ScannerConfig.LOW; quality <= ScannerConfig.HIGH; quality++) {
+        config.setQualitySetting(quality);
+        EyeState candidate = new EyeState(config, state);
+        calibrationSprites = new SpriteCache();
+        paintEye(g2d, candidate);
+
+        long start = System.nanoTime();
+        for (int frame = 0; frame < CALIBRATION_FRAMES; frame++) {
+          drawnPosition = (short) (engine.width * frame / CALIBRATION_FRAMES);
+          drawnIncreasing = (frame & 1) == 0;
+          paintEye(g2d, candidate);
+        }
 
-        startOfElement = calcKittRectStart(element);
+        long frameTime = (System.nanoTime() - start) / CALIBRATION_FRAMES;
+        candidate.style.release();
 
-        if (useGradients) {
+        if (frameTime > budget) {
+          break;
+        }
+        chosen = quality;
+      }
 
-          g2d.setPaint(kittRectGradient(element, startOfElement));
+      calibrationSprites = null;
+      g2d.dispose();
+      target.flush();
+      return chosen;
+    }
 
+    /**
+     * Hand the settings shaping the eye to the engine and update its geometry for the current size
+     * of the Larson Scanner. See {@link ScannerEngine#resize(double, double)}. While a transition
+     * is being painted, the interpolated gap and partition divider are used, so the geometry is
+     * calculated for every frame. The engine is updated under the monitor of the eye, which the
+     * animator moves the eye under, so every tick sees the geometry of a whole update.
+     *
+     * <p>If the geometry was calculated anew, the size of the eye is updated. Horizontal eyes are
+     * as big as the track, vertical eyes are the track turned by a quarter, and rings span the
+     * whole Larson Scanner.
+     *
+     * @param state {@link EyeState} The current state of the eye.
+     * @author Griefed
+     */
+    private void updateValues(@NotNull EyeState state) {
+      Transition transition = activeTransition;
+      double componentWidth = LarsonScanner.this.getWidth();
+      double componentHeight = LarsonScanner.this.getHeight();
+
+      synchronized (this) {
+        if (transition != null) {
+          engine.setPartitionDivider(transition.partitionDivider(transitionStep));
+          engine.setGapPercent(transition.gapPercent(transitionStep));
         } else {
+          engine.setPartitionDivider(state.partitionDivider);
+          engine.setGapPercent(state.gapPercent);
+        }
+        engine.setNumberOfElements(state.numberOfElements);
+        engine.setForceAspectRatio(state.forceAspectRatio);
+        engine.setOrientation(state.orientation);
 
-          g2d.setColor(eyeColours[element]);
+        if (!engine.resize(componentWidth, componentHeight)) {
+          return;
         }
+      }
+
+      if (state.orientation == ScannerConfig.ORIENTATION_HORIZONTAL) {
+        setSize((int) engine.width, (int) engine.height);
+      } else if (state.orientation == ScannerConfig.ORIENTATION_VERTICAL) {
+        setSize((int) engine.height, (int) engine.width);
+      } else {
+        setSize((int) engine.componentWidth, (int) engine.componentHeight);
+      }
+    }
+
+    /**
+     * Draw the afterglow of all eyes, in the colour of the brightest element of the primary eye.
+     * The intensities of all columns are turned into premultiplied pixels of a single row, using a
+     * table of colours for every intensity, which is stretched over the eye with a single blit.
+     *
+     * @param g2d {@link Graphics2D} to draw with.
+     * @param state {@link EyeState} The state of the eye to draw.
+     * @param startY {@link Byte} The play of an element along the Y-axis.
+     * @author Griefed
+     */
+    private void drawAfterglow(@NotNull Graphics2D g2d, @NotNull EyeState state, byte startY) {
+      int[] glow = engine.getAfterglow();
+      if (glow.length == 0) {
+        return;
+      }
 
-        g2d.fillRect((int) startOfElement, startY, (int) elementWidth, (int) height);
+      if (glowStyle != state.style) {
+        Color colour = state.eyeColours[state.numberOfElements / 2];
+        for (int intensity = 0; intensity < glowColours.length; intensity++) {
+          int alpha = intensity * colour.getAlpha() / 255;
+          glowColours[intensity] =
+              alpha << 24
+                  | colour.getRed() * alpha / 255 << 16
+                  | colour.getGreen() * alpha / 255 << 8
+                  | colour.getBlue() * alpha / 255;
+        }
+        glowStyle = state.style;
       }
 
-      if (increasePosition) {
-        // Going left to right
+      int orientation = engine.getOrientation();
+      if (orientation == ScannerConfig.ORIENTATION_RING) {
+        drawAfterglowRing(g2d, glow);
+        return;
+      }
 
-        posDrawn = p + numberOfElements * elementWidth + ((numberOfElements - 2) * gapWidth);
+      if (glowStrip == null || glowStrip.getWidth() != glow.length) {
+        glowStrip = new BufferedImage(glow.length, 1, BufferedImage.TYPE_INT_ARGB_PRE);
+        glowPixels = ((DataBufferInt) glowStrip.getRaster().getDataBuffer()).getData();
+      }
 
-        if (posDrawn > width) {
-          /*
-           * We are entering the nether on the right side, so we draw the brightest element at the
-           * most right position to create the illusion of the elements gathering.
-           */
-          startOfElement = width - elementWidth;
-          g2d.setColor(eyeColours[numberOfElements - 1]);
+      for (int column = 0; column < glow.length; column++) {
+        glowPixels[column] = glowColours[glow[column] >>> 7];
+      }
 
-          g2d.fillRect((int) startOfElement, startY, (int) elementWidth, (int) height);
+      if (orientation == ScannerConfig.ORIENTATION_VERTICAL) {
+        elementTransform.setTransform(
+            0.0D,
+            engine.width * scaleY / glow.length,
+            engine.height * scaleX,
+            0.0D,
+            startY * scaleX,
+            0.0D);
+        g2d.drawImage(glowStrip, elementTransform, null);
+        return;
+      }
 
-        } else if (p < 0) {
-          /*
-           * We are leaving the nether on the left side, so we need to draw that the next element
-           * after the ones already visible to create the illusion of the eye emerging.
-           */
-          elementToDraw = (byte) (numberOfElements - (posDrawn / elementWidth) - 1);
+      g2d.drawImage(
+          glowStrip,
+          0,
+          (int) Math.round(startY * scaleY),
+          (int) Math.round(engine.width * scaleX),
+          (int) Math.round(engine.height * scaleY),
+          null);
+    }
 
-          if (elementToDraw >= 0 && elementToDraw < numberOfElements) {
-            if (useGradients) {
-              g2d.setPaint(kittRectGradient(elementToDraw, getCenter(0)));
-            } else {
-              g2d.setColor(eyeColours[elementToDraw]);
+    /**
+     * Draw the afterglow of a ring. Every device pixel covered by the ring is mapped to the column
+     * of the afterglow at its angle once per size of the ring, so every frame only copies the
+     * colours of the columns to the pixels of the ring, which are then drawn with a single blit.
+     *
+     * @param g2d {@link Graphics2D} to draw with. Must have a translation-only transform set.
+     * @param glow {@link Integer}-array The intensities of all columns of the afterglow.
+     * @author Griefed
+     */
+    private void drawAfterglowRing(@NotNull Graphics2D g2d, int @NotNull [] glow) {
+      int ringWidth = Math.max(1, (int) Math.round(engine.componentWidth * scaleX));
+      int ringHeight = Math.max(1, (int) Math.round(engine.componentHeight * scaleY));
+      double pathRadius = engine.getPathRadius();
+
+      if (glowRing == null
+          || glowRing.getWidth() != ringWidth
+          || glowRing.getHeight() != ringHeight
+          || glowRingRadius != pathRadius
+          || glowRingLength != glow.length) {
+
+        glowRing = new BufferedImage(ringWidth, ringHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        glowRingPixels = ((DataBufferInt) glowRing.getRaster().getDataBuffer()).getData();
+        glowRingRadius = pathRadius;
+        glowRingLength = glow.length;
+
+        int[] indices = new int[ringWidth * ringHeight];
+        int[] columns = new int[ringWidth * ringHeight];
+        int count = 0;
+        double inner = pathRadius - engine.height / 2.0D;
+        double outer = pathRadius + engine.height / 2.0D;
+        double centreX = engine.getPathCentreX();
+        double centreY = engine.getPathCentreY();
+
+        for (int y = 0; y < ringHeight; y++) {
+          for (int x = 0; x < ringWidth; x++) {
+            double dx = (x + 0.5D) / scaleX - centreX;
+            double dy = (y + 0.5D) / scaleY - centreY;
+            double distance = Math.sqrt(dx * dx + dy * dy);
+
+            if (distance >= inner && distance < outer) {
+              // Clockwise, starting at the top
+              double angle = Math.atan2(dy, dx) + Math.PI / 2.0D;
+              if (angle < 0.0D) {
+                angle += 2.0D * Math.PI;
+              }
+              indices[count] = y * ringWidth + x;
+              columns[count] =
+                  Math.min(glow.length - 1, (int) (angle / (2.0D * Math.PI) * glow.length));
+              count++;
             }
-            g2d.fillRect(0, startY, (int) elementWidth, (int) height);
           }
         }
 
-      } else {
-        // Going right to left
+        glowRingIndices = Arrays.copyOf(indices, count);
+        glowRingColumns = Arrays.copyOf(columns, count);
+      }
 
-        posDrawn = p - numberOfElements * elementWidth + ((numberOfElements - 2) * gapWidth);
+      for (int i = 0; i < glowRingIndices.length; i++) {
+        glowRingPixels[glowRingIndices[i]] = glowColours[glow[glowRingColumns[i]] >>> 7];
+      }
 
-        if (posDrawn <= 0) {
-          /*
-           * We are entering the nether on the left side, so we draw the brightest element at the
-           * most left position to create the illusion of the elements gathering.
-           */
-          if (useGradients) {
-            g2d.setPaint(kittRectGradient((byte) (numberOfElements - 1), getCenter(0)));
-          } else {
-            g2d.setColor(eyeColours[numberOfElements - 1]);
-          }
-          g2d.fillRect(0, startY, (int) elementWidth, (int) height);
-
-        } else if (p >= width) {
-          /*
-           * We are leaving the nether on the right side, so we need to draw that the next element
-           * after the ones already visible to create the illusion of the eye emerging.
-           */
-          startOfElement = width - elementWidth;
-          elementToDraw = (byte) ((p - width) / elementWidth);
-
-          if (elementToDraw >= numberOfElements) {
-            elementToDraw = (byte) (numberOfElements - 1);
-          }
+      g2d.drawImage(glowRing, 0, 0, null);
+    }
 
-          if (elementToDraw >= 0) {
-            if (useGradients) {
-              g2d.setPaint(kittRectGradient(elementToDraw, getCenter(startOfElement)));
-            } else {
-              g2d.setColor(eyeColours[elementToDraw]);
-            }
-          }
-          g2d.fillRect((int) startOfElement, startY, (int) elementWidth, (int) height);
+    /**
+     * Draw the sprite of an element at the given position. The position is given in user space and
+     * converted to device pixels with the scale of the {@link Graphics2D} currently being painted
+     * to, so every element lands on a whole device pixel instead of being truncated in user space.
+     * For other orientations than horizontal, see {@link #drawAlongPath(Graphics2D, BufferedImage,
+     * double, double)}.
+     *
+     * @param g2d {@link Graphics2D} to draw with. Must have a translation-only transform set.
+     * @param state {@link EyeState} The state of the eye to draw.
+     * @param variant {@link Byte} Which sprite variant to draw. Either {@link #SOLID}, {@link
+     *     #CYLON} or {@link #KITT}.
+     * @param element {@link Byte} The number of the element to draw.
+     * @param startX {@link Double} The X-coordinate where the element starts, in user space.
+     * @param startY {@link Byte} The play of an element along the Y-axis, in user space.
+     * @author Griefed
+     */
+    private void drawElement(
+        @NotNull Graphics2D g2d,
+        @NotNull EyeState state,
+        byte variant,
+        byte element,
+        double startX,
+        byte startY) {
+      BufferedImage sprite = sprite(state, variant, element);
+
+      if (engine.getOrientation() != ScannerConfig.ORIENTATION_HORIZONTAL) {
+        drawAlongPath(
+            g2d, sprite, startX + engine.elementWidth / 2.0D, startY + engine.height / 2.0D);
+        return;
+      }
 
-        }
+      int x = (int) Math.round(startX * scaleX);
+      int y = (int) Math.round(startY * scaleY);
+
+      if (sprite.getWidth() == spriteWidth && sprite.getHeight() == spriteHeight) {
+        g2d.drawImage(sprite, x, y, null);
+      } else {
+        g2d.drawImage(sprite, x, y, spriteWidth, spriteHeight, null);
       }
     }
 
     /**
-     * Calculate the play of a Kitt-style animated rectangle. When the element we are drawing is the
-     * very first element, the play of said rectangle is simply the current position along the
-     * X-axis. Otherwise, when we are scrolling
-     *
-     * <p><strong>left to right</strong>
-     *
-     * <ul>
-     *   <li>Add the width of an element with the width of the gap between two elements
-     *   <li>multiply with the number of the current element
-     *   <li>add the result to the current position along the X-axis.
-     * </ul>
-     *
-     * <strong>right to left</strong>
+     * Draw the sprite of an element centred at the given position along the track, turned to
+     * follow the direction of the track at said position. Vertical scanners turn every sprite by a
+     * quarter, keeping it on whole device pixels, while rings look up the point and direction from
+     * the path calculated by the engine. See {@link ScannerEngine#getPathX(double)}.
      *
-     * <ul>
-     *   <li>Add the width of an element with the width of the gap between two elements
-     *   <li>multiply with the number of the current element
-     *   <li>subtract the result from the current position along the X-axis.
-     * </ul>
+     * @param g2d {@link Graphics2D} to draw with. Must have a translation-only transform set.
+     * @param sprite {@link BufferedImage} The sprite of the element to draw.
+     * @param along {@link Double} The centre of the element along the track, in user space.
+     * @param across {@link Double} The centre of the element across the track, in user space.
+     * @author Griefed
+     */
+    private void drawAlongPath(
+        @NotNull Graphics2D g2d, @NotNull BufferedImage sprite, double along, double across) {
+      boolean vertical = engine.getOrientation() == ScannerConfig.ORIENTATION_VERTICAL;
+      double centreX;
+      double centreY;
+      double cos;
+      double sin;
+
+      if (vertical) {
+        centreX = across;
+        centreY = along;
+        cos = 0.0D;
+        sin = 1.0D;
+      } else {
+        centreX = engine.getPathX(along);
+        centreY = engine.getPathY(along);
+        cos = engine.getPathCos(along);
+        sin = engine.getPathSin(along);
+      }
+
+      double scaleAlong = (double) spriteWidth / sprite.getWidth();
+      double scaleAcross = (double) spriteHeight / sprite.getHeight();
+      double m00 = cos * scaleAlong;
+      double m10 = sin * scaleAlong;
+      double m01 = -sin * scaleAcross;
+      double m11 = cos * scaleAcross;
+      double x = centreX * scaleX - (m00 * sprite.getWidth() + m01 * sprite.getHeight()) / 2.0D;
+      double y = centreY * scaleY - (m10 * sprite.getWidth() + m11 * sprite.getHeight()) / 2.0D;
+
+      if (vertical) {
+        x = Math.round(x);
+        y = Math.round(y);
+      }
+
+      elementTransform.setTransform(m00, m10, m01, m11, x, y);
+      g2d.drawImage(sprite, elementTransform, null);
+    }
+
+    /**
+     * Acquire the sprite for an element from the sprites of the style of the eye at the current
+     * size, rendering it if it has not been rendered yet. As sprites are shared by all eyes with
+     * the same style, a sprite is rendered only once for all of them. When gradients are disabled,
+     * every variant is drawn with solid colours, so they all share the {@link #SOLID} sprites. If
+     * a sprite cache file is in use, sprites are read from it before rendering them, and rendered
+     * sprites are written to it. While a transition is being painted, the blended sprites of the
+     * transition are used instead.
      *
-     * @param element {@link Byte} The number of the element currently being drawn.
-     * @return {@link Double} The X-coordinate where the current element starts.
+     * @param state {@link EyeState} The state of the eye to draw.
+     * @param variant {@link Byte} Which sprite variant to acquire.
+     * @param element {@link Byte} The number of the element.
+     * @return {@link BufferedImage} The sprite of the element at device resolution.
      * @author Griefed
      */
-    private double calcKittRectStart(byte element) {
-      if (element == 0) {
-        return p;
+    private @NotNull BufferedImage sprite(@NotNull EyeState state, byte variant, byte element) {
+      if (activeTransition != null) {
+        return transitionSprite(activeTransition, variant, element);
       }
-      if (increasePosition) {
 
-        return p + element * (elementWidth + gapWidth);
+      if (!state.useGradients) {
+        variant = SOLID;
+      }
 
-      } else {
+      spriteLookups++;
+      BufferedImage sprite = sprites.sprites[variant][element];
+      if (sprite == null) {
+        SpriteStore store = null;
+        if (state.renderer == ShapeRenderer.OVAL || state.renderer == ShapeRenderer.RECTANGLE) {
+          store = spriteStore;
+        }
+        long key = 0;
+
+        if (store != null) {
+          key = SpriteStore.key(state, variant, element, sprites.spriteWidth, sprites.spriteHeight);
+          sprite = store.read(key, sprites.spriteWidth, sprites.spriteHeight);
+        }
+
+        if (sprite != null) {
+          spritesRead++;
+        } else {
+          spritesRendered++;
+          sprite = renderSprite(state, variant, element, sprites.spriteWidth, sprites.spriteHeight);
+
+          if (store != null) {
+            store.write(key, sprite);
+          }
+        }
 
-        return p - element * (elementWidth + gapWidth);
+        sprites.sprites[variant][element] = sprite;
       }
+      return sprite;
     }
 
     /**
-     * Create the gradient for the currently being drawn, rectangular-shaped, element, when
-     * animating as a Kitt-eye. Elements have gradients with increased alpha, so less transparency,
-     * the further they go from left to right, or the other way around when going right to left.
-     *
-     * <p>Every gradient for these rectangular shapes is drawn from:
-     *
-     * <ul>
-     *   <li><code>X-coordinate:</code> Acquired from {@link #calcKittRectStart(byte)}
-     *   <li><code>Y-coordinate:</code> Half of the height of one element.
-     * </ul>
-     *
-     * to:
-     *
-     * <ul>
-     *   <li><code>X-coordinate:</code> Acquired from {@link #calcKittRectStart(byte)} plus the
-     *       width of one element.
-     *   <li><code>Y-coordinate:</code> Half of the height of one element.
-     * </ul>
+     * Acquire the sprite for an element blended between the states of the given transition at the
+     * current step of the transition. The sprites of both states are rendered once, when the
+     * sprite is first requested during the transition, and blended into a preallocated sprite for
+     * every step afterwards.
      *
-     * @param element {@link Byte} The number of the current element being drawn.
-     * @param startX {@link Double} The X-coordinate where the current element starts.
-     * @return {@link GradientPaint} The gradient with which to draw the current element.
+     * @param transition {@link Transition} The transition being painted.
+     * @param variant {@link Byte} Which sprite variant to acquire.
+     * @param element {@link Byte} The number of the element.
+     * @return {@link BufferedImage} The blended sprite of the element.
      * @author Griefed
      */
-    @Contract("_, _ -> new")
-    private @NotNull GradientPaint kittRectGradient(byte element, double startX) {
-      short alphaOne = (short) (255.0D / numberOfElements * (double) (element + 1));
-      short alphaTwo = (short) (255.0D / numberOfElements * (double) (element + 1));
-
-      if (increasePosition) {
-        return new GradientPaint(
-            (float) startX,
-            (float) (height / 2.0D),
-            colorWithAlpha(alphaOne, eyeColours[element]),
-            (float) (startX + elementWidth),
-            (float) (height / 2.0D),
-            colorWithAlpha(alphaTwo, eyeColours[element]));
-      } else {
-        return new GradientPaint(
-            (float) startX,
-            (float) (height / 2.0D),
-            colorWithAlpha(alphaTwo, eyeColours[element]),
-            (float) (startX + elementWidth),
-            (float) (height / 2.0D),
-            colorWithAlpha(alphaOne, eyeColours[element]));
+    private @NotNull BufferedImage transitionSprite(
+        @NotNull Transition transition, byte variant, byte element) {
+      BufferedImage sprite = transition.blended[variant][element];
+
+      if (sprite == null) {
+        int blendedWidth = transition.spriteWidth;
+        int blendedHeight = transition.spriteHeight;
+        byte fromVariant = transition.from.useGradients ? variant : SOLID;
+        byte toVariant = transition.to.useGradients ? variant : SOLID;
+
+        transition.fromPixels[variant][element] =
+            (int[])
+                renderSprite(transition.from, fromVariant, element, blendedWidth, blendedHeight)
+                    .getRaster()
+                    .getDataElements(0, 0, blendedWidth, blendedHeight, null);
+        transition.toPixels[variant][element] =
+            (int[])
+                renderSprite(transition.to, toVariant, element, blendedWidth, blendedHeight)
+                    .getRaster()
+                    .getDataElements(0, 0, blendedWidth, blendedHeight, null);
+
+        sprite = new BufferedImage(blendedWidth, blendedHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        transition.blended[variant][element] = sprite;
+        transition.blendedPixels[variant][element] =
+            ((DataBufferInt) sprite.getRaster().getDataBuffer()).getData();
+        transition.blendedSteps[variant][element] = -1;
       }
+
+      transition.blendSprite(variant, element, transitionStep);
+      return sprite;
     }
 
     /**
-     * Set the alpha value for the current colour of the current element being drawn. The alpha
-     * value must be a number in the range of <code>0</code> to <code>255</code>.
+     * Render the sprite of an element at the given size in device pixels with the shape renderer
+     * of the given state, using its rendering hints, colours, alphas and fractions.
      *
-     * @param alpha {@link Short} Alpha value to set with the given colour. Ranging from <code>0
-     *     </code> to <code>255</code>.
-     * @param color {@link Color} Color of the element currently being drawn.
-     * @return {@link Color} The color of the element currently being drawn with an alpha value set.
-     * @throws IllegalArgumentException if the specified alpha-value is smaller than <code>0</code>
-     *     or greater than <code>255</code>.
+     * @param state {@link EyeState} The state of the eye to render for.
+     * @param variant {@link Byte} Which sprite variant to render.
+     * @param element {@link Byte} The number of the element.
+     * @param spriteWidth {@link Integer} The width of the sprite in device pixels.
+     * @param spriteHeight {@link Integer} The height of the sprite in device pixels.
+     * @return {@link BufferedImage} The rendered sprite.
      * @author Griefed
      */
-    @Contract("_, _ -> new")
-    private @NotNull Color colorWithAlpha(short alpha, @NotNull Color color)
-        throws IllegalArgumentException {
-      if (alpha < 0 || alpha > 255) {
-        throw new IllegalArgumentException("Alpha must be 0 to 255. Specified " + alpha);
-      }
-      return new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+    private @NotNull BufferedImage renderSprite(
+        @NotNull EyeState state, byte variant, byte element, int spriteWidth, int spriteHeight) {
+      Object event = ScannerEvents.begin(ScannerEvents.CACHE_REBUILD);
+      BufferedImage sprite =
+          new BufferedImage(spriteWidth, spriteHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+      Graphics2D g2d = sprite.createGraphics();
+      g2d.setRenderingHints(state.renderingHints);
+      state.renderer.render(g2d, state.style, variant, element, spriteWidth, spriteHeight);
+      g2d.dispose();
+      commitEvent(event, "sprite");
+      return sprite;
     }
 
     /**
@@ -2571,120 +6515,130 @@ public class LarsonScanner extends JPanel {
      *       </ul>
      * </ul>
      *
-     * @author Griefed
-     */
-    private void updatePosition() {
-      if (cylonAnimation) {
-        updatePositionCylonStyle();
-      } else {
-        updatePositionKittStyle();
-      }
-    }
-
-    /**
-     * See {@link #updatePosition()} for details.
+     * <p>If an easing profile other than linear is used, the engine looks the position up from a
+     * table of eased positions instead. If the afterglow is active, the engine updates it for the
+     * new position afterwards. See {@link ScannerEngine#tick()}. Additional eyes are moved
+     * afterwards, see {@link #updateSweep(Sweep, boolean, double)}. The pace of the eyes, see
+     * {@link #pace()}, scales their dividers, see {@link #atPace(double, double)}, or the number
+     * of steps they take, see {@link #stepsAtPace(boolean, double)}.
      *
      * @author Griefed
      */
-    private void updatePositionCylonStyle() {
-      if (p < 0) {
-        // switch to left to right
-
-        increasePosition = true;
-        p = 0;
-        return;
-
-      } else if (p > width) {
-        // switch to right to left
+    private void updatePosition() {
+      EyeState state = this.state;
+      Transition transition = this.transition;
+      double divider = state.divider;
 
-        increasePosition = false;
-        p = (short) width;
-        return;
+      if (transition != null && transition.to == state) {
+        divider = transition.divider(transition.step(System.nanoTime()));
       }
 
-      if (useDivider) {
+      double pace = pace();
+      divider = atPace(divider, pace);
+      int steps = stepsAtPace(state.useDivider, pace);
+      for (int step = 0; step < steps; step++) {
+        engine.move(
+            engine.eye, state.model, state.gapped, state.useDivider, state.easing, divider);
 
-        if (increasePosition && p < width) {
-          // left to right
-
-          p += width / divider;
-
-        } else if (!increasePosition && p > 0) {
-          // right to left
-
-          p -= width / divider;
+        if (state.afterglow) {
+          engine.updateAfterglow(engine.eye, state.useDivider, divider);
         }
 
-      } else {
-
-        if (increasePosition && p < width) {
-          // left to right
-
-          p++;
-
-        } else if (!increasePosition && p > 0) {
-          // right to left
-
-          p--;
+        for (Sweep sweep : sweeps) {
+          updateSweep(sweep, state.afterglow, pace);
         }
       }
     }
 
     /**
-     * See {@link #updatePosition()} for details.
+     * Get the pace at which the eyes move, relative to the pace their interval and dividers give.
+     * The pace is the speed bound to a metric, multiplied by how much the limit of frames per
+     * second stretches the interval, see {@link LarsonScanner#setMaxFramesPerSecond(int)}. A
+     * limited eye is updated less often but moves further per update, so it sweeps across the
+     * Larson Scanner in the same time.
      *
+     * @return {@link Double} The pace of the eyes, <code>1</code> for the pace of the settings.
      * @author Griefed
      */
-    private void updatePositionKittStyle() {
-      double widthElements;
-      if (ovalShaped) {
-        widthElements = numberOfElements * elementWidth;
-      } else {
-        widthElements = numberOfElements * elementWidth + totalGapWidth;
-      }
-      double maxWidth = width + widthElements;
-      double maxNegative = 0 - widthElements;
-
-      if (p < maxNegative) {
-        // switch to left to right
+    private double pace() {
+      double speed = this.speed;
+      short interval = currentInterval();
+      short minimumInterval = this.minimumInterval;
+      return minimumInterval > interval ? speed * minimumInterval / interval : speed;
+    }
 
-        increasePosition = true;
-        p = (short) maxNegative;
-        return;
+    /**
+     * Scale a divider by the pace of the eye, if the pace is above <code>1</code>. The divider
+     * never drops below <code>1</code>, so the eye crosses the Larson Scanner in no less than one
+     * update however fast it is. Slower paces skip updates instead, see {@link
+     * #stepsAtPace(boolean, double)}, as dividing the steps of the eye would truncate steps shorter
+     * than one pixel to none at all.
+     *
+     * @param divider {@link Double} The divider to scale.
+     * @param pace {@link Double} The pace of the eye, see {@link #pace()}.
+     * @return {@link Double} The divider for the pace.
+     * @author Griefed
+     */
+    private double atPace(double divider, double pace) {
+      return pace <= 1.0D ? divider : Math.max(1.0D, divider / pace);
+    }
 
-      } else if (p > maxWidth) {
-        // switch to right to left
+    /**
+     * Get the number of steps the eyes take in this update. At a pace below <code>1</code>, the
+     * pace accumulates over the updates and the eyes take one step whenever it adds up to a whole
+     * step, so they slow down instead of freezing. Above <code>1</code>, the pace scales the
+     * divider instead, see {@link #atPace(double, double)}, unless the divider is not used, in
+     * which case the eyes take several steps per update, but never more than the width of the
+     * Larson Scanner.
+     *
+     * @param useDivider {@link Boolean} Whether the eyes move using the divider.
+     * @param pace {@link Double} The pace of the eye, see {@link #pace()}.
+     * @return {@link Integer} The number of steps to take.
+     * @author Griefed
+     */
+    private int stepsAtPace(boolean useDivider, double pace) {
+      if (pace == 1.0D || (pace > 1.0D && useDivider)) {
+        return 1;
+      }
+      pendingSteps = Math.min(pendingSteps + pace, Math.max(1.0D, engine.width));
+      int steps = (int) pendingSteps;
+      pendingSteps -= steps;
+      return steps;
+    }
 
-        increasePosition = false;
-        p = (short) maxWidth;
+    /**
+     * Update the position of an additional eye. The additional eye is moved through its own motion
+     * with the same code as the primary eye, so all eyes move by the same rules without ever
+     * sharing their position. An additional eye is placed at its starting point once the width of
+     * the Larson Scanner is known.
+     *
+     * @param sweep {@link Sweep} The additional eye to update.
+     * @param afterglow {@link Boolean} Whether the additional eye lights up the afterglow.
+     * @param pace {@link Double} The pace of the eyes, see {@link #pace()}.
+     * @author Griefed
+     */
+    private void updateSweep(@NotNull Sweep sweep, boolean afterglow, double pace) {
+      EyeState sweepState = sweep.state;
+      if (sweepState.numberOfElements != state.numberOfElements || engine.width <= 0.0D) {
         return;
       }
 
-      if (useDivider) {
-
-        if (increasePosition && p < maxWidth) {
-          // left to right
-
-          p += maxWidth / divider;
-
-        } else if (!increasePosition && p > maxNegative) {
-          // right to left
-
-          p -= maxWidth / divider;
-        }
-
-      } else {
-
-        if (increasePosition && p < maxWidth) {
-          // left to right
-
-          p++;
-
-        } else if (!increasePosition && p > maxNegative) {
-          // right to left
+      if (!sweep.placed) {
+        sweep.position = (short) (sweep.startPhase * engine.width);
+        sweep.phase = sweep.startPhase * ScannerEngine.EASING_STEPS;
+        sweep.glowPosition = sweep.position;
+        sweep.placed = true;
+      }
 
-          p--;
-        }
+      engine.move(
+          sweep,
+          sweepState.model,
+          sweepState.gapped,
+          sweepState.useDivider,
+          sweepState.easing,
+          atPace(sweepState.divider, pace));
+      if (afterglow) {
+        engine.lightAfterglow(sweep);
       }
     }
   }
@@ -0,0 +1,1145 @@
+package de.griefed.larsonscanner;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The animation core of a Larson Scanner, free of any dependency on AWT or Swing. The engine holds
+ * the settings shaping the eye, the geometry of the track the eye moves along, the position and
+ * direction of the eye, its afterglow and the layout of its elements, all in primitive fields and
+ * arrays. The {@link LarsonScanner} is a Swing adapter painting an engine, but headless renderers,
+ * LED outputs or other toolkits may drive an engine of their own:
+ *
+ * <pre>{@code
+ * ScannerEngine engine = new ScannerEngine();
+ * engine.resize(144, 1);
+ * while (running) {
+ *   engine.tick();
+ *   int count = engine.layout();
+ *   for (int i = 0; i < count; i++) {
+ *     light(engine.getElementNumber(i), engine.getElementStart(i), engine.getElementWidth());
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Sizes are measured in the units handed to {@link #resize(double, double)}, usually pixels.
+ * Width and height are measured along and across the track the eye scans along. For vertical
+ * scanners, the track runs along the height of the area to scan across. For rings, the track runs
+ * along the centre of the ring, its width being the circumference there. Positions along the track
+ * range from <code>0</code> to the width of the track, but an eye may leave the track on either
+ * side, depending on its animation model.
+ *
+ * <p>An engine is not thread-safe. Its settings, geometry and positions are plain fields, so if
+ * the eye is moved on one thread while the engine is resized, configured or laid out on another,
+ * every call must be synchronized externally, for example by making all of them while holding the
+ * same lock. The {@link LarsonScanner} moves its engine, updates its settings and size, and copies
+ * the positions to draw while holding the monitor of its eye.
+ *
+ * @author Griefed
+ */
+public final class ScannerEngine {
+
+  /** Move the eye at a constant speed. */
+  public static final int EASING_LINEAR = 0;
+
+  /** Accelerate and decelerate the eye along a sine curve. */
+  public static final int EASING_SINE = 1;
+
+  /** Accelerate and decelerate the eye along a cubic curve. */
+  public static final int EASING_CUBIC = 2;
+
+  /** Move the eye at a constant speed, decelerating only shortly before either edge. */
+  public static final int EASING_KITT = 3;
+
+  /** Scan from left to right and back. */
+  public static final int ORIENTATION_HORIZONTAL = 0;
+
+  /** Scan from top to bottom and back. */
+  public static final int ORIENTATION_VERTICAL = 1;
+
+  /** Scan along a ring, clockwise starting at the top. */
+  public static final int ORIENTATION_RING = 2;
+
+  /** Number of steps in the table of eased positions for one sweep of the eye. */
+  static final int EASING_STEPS = 1024;
+
+  /** Intensity of a freshly lit column of the afterglow. See {@link #getAfterglow()}. */
+  public static final int AFTERGLOW_FULL = 0x7FFF;
+
+  /** Fraction of a sweep during which the eye accelerates or decelerates with Kitt easing. */
+  private static final double KITT_EASING_RAMP = 0.15D;
+
+  /** Intensity the afterglow fades to while the eye travels its own width. */
+  private static final double AFTERGLOW_FADE = 1.0D / 32.0D;
+
+  private final int instance;
+  private final AtomicLong ticks;
+  private final MovingTrack movingTrack = new MovingTrack();
+  private final LaidOutTrack laidOutTrack = new LaidOutTrack();
+  private AnimationModel animationModel = AnimationModel.CYLON;
+  private byte numberOfElements = 5;
+  private double partitionDivider = 5.0D;
+  private double gapPercent = 25.0D;
+  private boolean gapped = false;
+  private int orientation = ORIENTATION_HORIZONTAL;
+  private boolean forceAspectRatio = false;
+  private double divider = 25.0D;
+  private boolean useDivider = true;
+  private int easing = EASING_LINEAR;
+  private boolean afterglow = false;
+  private boolean geometryChanged = true;
+  double width;
+  double height;
+  double componentWidth;
+  double componentHeight;
+  double elementWidth;
+  double partition;
+  double gapWidth;
+  final EyeMotion eye = new EyeMotion();
+  private volatile int[] glow = new int[0];
+  private double glowTicks = -1.0D;
+  private int glowDecay = 0;
+  private final short[] easedOffsets = new short[EASING_STEPS + 1];
+  private int easedProfile = EASING_LINEAR;
+  private double easedSpan = -1.0D;
+  private double[] pathX = new double[0];
+  private double[] pathY = new double[0];
+  private double[] pathCos = new double[0];
+  private double[] pathSin = new double[0];
+  private int pathLength = 0;
+  private double pathRadius = 0.0D;
+  private double pathCentreX = 0.0D;
+  private double pathCentreY = 0.0D;
+  private byte[] elementVariants = new byte[16];
+  private byte[] elementNumbers = new byte[16];
+  private double[] elementStarts = new double[16];
+  private int elementCount = 0;
+
+  /**
+   * Create an engine with the default settings of a {@link LarsonScanner.ScannerConfig}, for a
+   * track of no size yet. See {@link #resize(double, double)}.
+   *
+   * @author Griefed
+   */
+  public ScannerEngine() {
+    this(0, new AtomicLong());
+  }
+
+  /**
+   * Create an engine recording the rebuilds of its cached data as events of the given Larson
+   * Scanner, see {@link ScannerEvents}.
+   *
+   * @param instance {@link Integer} The id of the Larson Scanner.
+   * @param ticks {@link AtomicLong} The number of ticks of the Larson Scanner so far.
+   * @author Griefed
+   */
+  ScannerEngine(int instance, @NotNull AtomicLong ticks) {
+    this.instance = instance;
+    this.ticks = ticks;
+  }
+
+  /**
+   * Get the animation model moving the eye and laying out its elements.
+   *
+   * @return {@link AnimationModel} The animation model.
+   * @author Griefed
+   */
+  public @NotNull AnimationModel getAnimationModel() {
+    return animationModel;
+  }
+
+  /**
+   * Set the animation model moving the eye and laying out its elements. Either {@link
+   * AnimationModel#CYLON}, {@link AnimationModel#KITT} or a model of your own.
+   *
+   * @param animationModel {@link AnimationModel} The animation model to use.
+   * @author Griefed
+   */
+  public void setAnimationModel(@NotNull AnimationModel animationModel) {
+    this.animationModel = animationModel;
+  }
+
+  /**
+   * Get the number of elements in the eye.
+   *
+   * @return {@link Byte} The number of elements.
+   * @author Griefed
+   */
+  public byte getNumberOfElements() {
+    return numberOfElements;
+  }
+
+  /**
+   * Set the number of elements in the eye. For more information, see {@link
+   * LarsonScanner#setNumberOfElements(byte)}.
+   *
+   * @param numberOfElements {@link Byte} The number of elements.
+   * @throws IllegalArgumentException if the number of elements is smaller than 1 or even.
+   * @author Griefed
+   */
+  public void setNumberOfElements(byte numberOfElements) throws IllegalArgumentException {
+    if (numberOfElements < 1) {
+      throw new IllegalArgumentException(
+          "Number of elements must be greater than zero. Specified " + numberOfElements);
+    } else if ((numberOfElements & 1) == 0) {
+      throw new IllegalArgumentException(
+          "Number of elements must be an odd number. Specified " + numberOfElements);
+    } else if (this.numberOfElements != numberOfElements) {
+      this.numberOfElements = numberOfElements;
+      geometryChanged = true;
+    }
+  }
+
+  /**
+   * Set the number with which to divide the width of the track to get the width of the eye. For
+   * more information, see {@link LarsonScanner#setPartitionDivider(double)}.
+   *
+   * @param partitionDivider {@link Double} The partition divider.
+   * @throws IllegalArgumentException if the partition divider is smaller than or equal to 0.0D.
+   * @author Griefed
+   */
+  public void setPartitionDivider(double partitionDivider) throws IllegalArgumentException {
+    if (partitionDivider <= 0.0D) {
+      throw new IllegalArgumentException(
+          "Partition Divider must be bigger than 0.0D. Specified " + partitionDivider);
+    } else if (this.partitionDivider != partitionDivider) {
+      this.partitionDivider = partitionDivider;
+      geometryChanged = true;
+    }
+  }
+
+  /**
+   * Set the width of the gap between two elements, in percent of the width of one element. For
+   * more information, see {@link LarsonScanner#setGapPercent(float)}.
+   *
+   * @param gapPercent {@link Double} The percentage of the width of the gap.
+   * @throws IllegalArgumentException if the percentage is negative.
+   * @author Griefed
+   */
+  public void setGapPercent(double gapPercent) throws IllegalArgumentException {
+    if (gapPercent < 0.0D) {
+      throw new IllegalArgumentException(
+          "Gap percent must be a positive, non-negative, number. Specified " + gapPercent);
+    } else if (this.gapPercent != gapPercent) {
+      this.gapPercent = gapPercent;
+      geometryChanged = true;
+    }
+  }
+
+  /**
+   * Set whether the elements are laid out with gaps between them, like the rectangles of the
+   * built-in shapes. See {@link LarsonScanner.ShapeRenderer#hasGaps()}.
+   *
+   * @param gapped {@link Boolean} <code>true</code> to lay out elements with gaps.
+   * @author Griefed
+   */
+  public void setGapped(boolean gapped) {
+    this.gapped = gapped;
+  }
+
+  /**
+   * Get the orientation of the track.
+   *
+   * @return {@link Integer} Integer representation of the orientation.
+   * @author Griefed
+   */
+  public int getOrientation() {
+    return orientation;
+  }
+
+  /**
+   * Set the orientation of the track. Either {@link #ORIENTATION_HORIZONTAL}, {@link
+   * #ORIENTATION_VERTICAL} or {@link #ORIENTATION_RING}. For more information, see {@link
+   * LarsonScanner#setOrientation(int)}.
+   *
+   * @param orientation {@link Integer} Integer representation of the orientation.
+   * @throws IllegalArgumentException if the specified orientation is not 0, 1 or 2.
+   * @author Griefed
+   */
+  public void setOrientation(int orientation) throws IllegalArgumentException {
+    if (orientation < ORIENTATION_HORIZONTAL
+        || orientation > ORIENTATION_RING) {
+      throw new IllegalArgumentException(
+          "Orientation must be 0, 1 or 2. Specified " + orientation);
+    } else if (this.orientation != orientation) {
+      this.orientation = orientation;
+      geometryChanged = true;
+    }
+  }
+
+  /**
+   * Set whether the height of the track is set to the width of one element. For more information,
+   * see {@link LarsonScanner#forceAspectRatio(boolean)}.
+   *
+   * @param forceAspectRatio {@link Boolean} Whether to force an aspect ratio of 1:1 on elements.
+   * @author Griefed
+   */
+  public void setForceAspectRatio(boolean forceAspectRatio) {
+    if (this.forceAspectRatio != forceAspectRatio) {
+      this.forceAspectRatio = forceAspectRatio;
+      geometryChanged = true;
+    }
+  }
+
+  /**
+   * Set the divider with which the position of the eye is in-/decremented. For more information,
+   * see {@link LarsonScanner#setDivider(short)}.
+   *
+   * @param divider {@link Double} The divider.
+   * @throws IllegalArgumentException if the divider is smaller than 1.
+   * @author Griefed
+   */
+  public void setDivider(double divider) throws IllegalArgumentException {
+    if (divider < 1.0D) {
+      throw new IllegalArgumentException("Divider must be greater than 0. Specified " + divider);
+    } else {
+      this.divider = divider;
+    }
+  }
+
+  /**
+   * Set whether the position of the eye is in-/decremented using the divider, or by 1. For more
+   * information, see {@link LarsonScanner#useDivider(boolean)}.
+   *
+   * @param useDivider {@link Boolean} Whether to use the divider.
+   * @author Griefed
+   */
+  public void setUseDivider(boolean useDivider) {
+    this.useDivider = useDivider;
+  }
+
+  /**
+   * Set the easing profile of the movement of the eye. Either {@link #EASING_LINEAR}, {@link
+   * #EASING_SINE}, {@link #EASING_CUBIC} or {@link #EASING_KITT}. For more information, see {@link
+   * LarsonScanner#setEasing(int)}.
+   *
+   * @param easing {@link Integer} Integer representation of the easing profile.
+   * @throws IllegalArgumentException if the specified easing profile is not 0, 1, 2 or 3.
+   * @author Griefed
+   */
+  public void setEasing(int easing) throws IllegalArgumentException {
+    if (easing < EASING_LINEAR || easing > EASING_KITT) {
+      throw new IllegalArgumentException("Easing must be 0, 1, 2 or 3. Specified " + easing);
+    } else {
+      this.easing = easing;
+    }
+  }
+
+  /**
+   * Set whether the eye leaves an afterglow trail. See {@link #getAfterglow()}.
+   *
+   * @param afterglow {@link Boolean} Whether the eye leaves an afterglow trail.
+   * @author Griefed
+   */
+  public void setUseAfterglow(boolean afterglow) {
+    this.afterglow = afterglow;
+  }
+
+  /**
+   * Update the geometry of the track for the size of the area to scan across.
+   *
+   * <p>If the aspect ratio is being enforced, then the height of the track is set to the width of
+   * one element, resulting in a 1:1 aspect ratio. Otherwise, the width and height of the track are
+   * set to the width and height of the area. Rings fit into the smaller side of the area.
+   *
+   * <p>The partitioning, the width of an element and of the gaps, and the path of a ring are
+   * only calculated anew if the size or any setting shaping the eye changed since the last
+   * update, so calling this for every frame is cheap.
+   *
+   * @param componentWidth {@link Double} The width of the area to scan across.
+   * @param componentHeight {@link Double} The height of the area to scan across.
+   * @return {@link Boolean} <code>true</code> if the geometry was calculated anew.
+   * @author Griefed
+   */
+  public boolean resize(double componentWidth, double componentHeight) {
+    double newWidth;
+    double newHeight;
+
+    if (orientation == ORIENTATION_RING) {
+      double diameter = Math.min(componentWidth, componentHeight);
+      double radius;
+
+      if (forceAspectRatio) {
+        radius = diameter / 2.0D / (1.0D + Math.PI / partitionDivider / numberOfElements);
+        newHeight = diameter - 2.0D * radius;
+      } else {
+        newHeight = diameter / 4.0D;
+        radius = (diameter - newHeight) / 2.0D;
+      }
+      newWidth = 2.0D * Math.PI * radius;
+
+    } else {
+
+      if (orientation == ORIENTATION_VERTICAL) {
+        newWidth = componentHeight;
+        newHeight = componentWidth;
+      } else {
+        newWidth = componentWidth;
+        newHeight = componentHeight;
+      }
+
+      if (forceAspectRatio) {
+        newHeight = newWidth / partitionDivider / (double) numberOfElements;
+      }
+    }
+
+    if (!geometryChanged
+        && width == newWidth
+        && height == newHeight
+        && this.componentWidth == componentWidth
+        && this.componentHeight == componentHeight) {
+      return false;
+    }
+
+    Object event = ScannerEvents.begin(ScannerEvents.CACHE_REBUILD);
+    geometryChanged = false;
+    width = newWidth;
+    height = newHeight;
+    this.componentWidth = componentWidth;
+    this.componentHeight = componentHeight;
+
+    if (orientation == ORIENTATION_RING) {
+      calculatePath();
+    }
+
+    // The eye itself is to be a fifth of the whole width
+    partition = width / partitionDivider;
+    elementWidth = partition / (double) numberOfElements;
+    gapWidth = elementWidth / 100.0D * gapPercent;
+    commitEvent(event, "geometry");
+    return true;
+  }
+
+  /**
+   * Get the width of the track, measured along the track.
+   *
+   * @return {@link Double} The width of the track.
+   * @author Griefed
+   */
+  public double getWidth() {
+    return width;
+  }
+
+  /**
+   * Get the height of the track, measured across the track.
+   *
+   * @return {@link Double} The height of the track.
+   * @author Griefed
+   */
+  public double getHeight() {
+    return height;
+  }
+
+  /**
+   * Get the width of one element along the track.
+   *
+   * @return {@link Double} The width of one element.
+   * @author Griefed
+   */
+  public double getElementWidth() {
+    return elementWidth;
+  }
+
+  /**
+   * Get the width of the gap between two elements, whether the elements are laid out with gaps or
+   * not.
+   *
+   * @return {@link Double} The width of the gap between two elements.
+   * @author Griefed
+   */
+  public double getGapWidth() {
+    return gapWidth;
+  }
+
+  /**
+   * Get the number of points along the path of a ring, one for every whole position along the
+   * track. <code>0</code> unless the track is a ring.
+   *
+   * @return {@link Integer} The number of points along the path.
+   * @author Griefed
+   */
+  public int getPathLength() {
+    return orientation == ORIENTATION_RING ? pathLength : 0;
+  }
+
+  /**
+   * Get the X-coordinate of the given position along the path of a ring, in the area the ring is
+   * centred in. Positions wrap around the ring. Only available while the track is a ring.
+   *
+   * @param position {@link Double} The position along the track.
+   * @return {@link Double} The X-coordinate of the position.
+   * @author Griefed
+   */
+  public double getPathX(double position) {
+    return pathX[pathIndex(position)];
+  }
+
+  /**
+   * Get the Y-coordinate of the given position along the path of a ring, in the area the ring is
+   * centred in. Positions wrap around the ring. Only available while the track is a ring.
+   *
+   * @param position {@link Double} The position along the track.
+   * @return {@link Double} The Y-coordinate of the position.
+   * @author Griefed
+   */
+  public double getPathY(double position) {
+    return pathY[pathIndex(position)];
+  }
+
+  /**
+   * Get the cosine of the direction of the path of a ring at the given position, by which an
+   * element at said position is turned. Positions wrap around the ring. Only available while the
+   * track is a ring.
+   *
+   * @param position {@link Double} The position along the track.
+   * @return {@link Double} The cosine of the direction at the position.
+   * @author Griefed
+   */
+  public double getPathCos(double position) {
+    return pathCos[pathIndex(position)];
+  }
+
+  /**
+   * Get the sine of the direction of the path of a ring at the given position, by which an element
+   * at said position is turned. Positions wrap around the ring. Only available while the
+   * track is a ring.
+   *
+   * @param position {@link Double} The position along the track.
+   * @return {@link Double} The sine of the direction at the position.
+   * @author Griefed
+   */
+  public double getPathSin(double position) {
+    return pathSin[pathIndex(position)];
+  }
+
+  /**
+   * Get the radius of the path of a ring, running along the centre of the ring.
+   *
+   * @return {@link Double} The radius of the path.
+   * @author Griefed
+   */
+  public double getPathRadius() {
+    return pathRadius;
+  }
+
+  /**
+   * Get the X-coordinate of the centre of a ring.
+   *
+   * @return {@link Double} The X-coordinate of the centre.
+   * @author Griefed
+   */
+  public double getPathCentreX() {
+    return pathCentreX;
+  }
+
+  /**
+   * Get the Y-coordinate of the centre of a ring.
+   *
+   * @return {@link Double} The Y-coordinate of the centre.
+   * @author Griefed
+   */
+  public double getPathCentreY() {
+    return pathCentreY;
+  }
+
+  /**
+   * Get the current position of the eye along the track.
+   *
+   * @return {@link Short} The current position.
+   * @author Griefed
+   */
+  public short getPosition() {
+    return eye.position;
+  }
+
+  /**
+   * Get whether the eye is currently moving towards the end of the track.
+   *
+   * @return {@link Boolean} <code>true</code> if the position is increasing.
+   * @author Griefed
+   */
+  public boolean isIncreasing() {
+    return eye.increasing;
+  }
+
+  /**
+   * Get the intensities of the afterglow, one column per whole position along the track, from
+   * <code>0</code> for dark to {@link #AFTERGLOW_FULL} for fully lit. Empty until the eye moved
+   * with the afterglow active. The array is updated in place by the engine and must not be
+   * modified.
+   *
+   * @return {@link Integer}-array The intensities of all columns of the afterglow.
+   * @author Griefed
+   */
+  public int @NotNull [] getAfterglow() {
+    return glow;
+  }
+
+  /**
+   * Move the eye by one update, with the current settings, and update the afterglow if it is
+   * active.
+   *
+   * @author Griefed
+   */
+  public void tick() {
+    ticks.incrementAndGet();
+    move(eye, animationModel, gapped, useDivider, easing, divider);
+
+    if (afterglow) {
+      updateAfterglow(eye, useDivider, divider);
+    }
+  }
+
+  /**
+   * Move the position of an eye by one update, either along the table of eased positions or with
+   * the given animation model. The eye is moved through a track backed by its own motion, so
+   * several eyes may be moved along the same track without ever sharing their position.
+   *
+   * @param eye {@link EyeMotion} The eye to move.
+   * @param model {@link AnimationModel} The animation model moving the eye.
+   * @param gapped {@link Boolean} Whether the elements are laid out with gaps between them.
+   * @param useDivider {@link Boolean} Whether the position is in-/decremented using the divider.
+   * @param easing {@link Integer} The easing profile of the movement.
+   * @param divider {@link Double} The divider with which to in-/decrement the position.
+   * @author Griefed
+   */
+  void move(
+      @NotNull EyeMotion eye,
+      @NotNull AnimationModel model,
+      boolean gapped,
+      boolean useDivider,
+      int easing,
+      double divider) {
+    movingTrack.eye = eye;
+    movingTrack.gapped = gapped;
+    movingTrack.useDivider = useDivider;
+    movingTrack.divider = divider;
+
+    if (easing != EASING_LINEAR) {
+      moveEased(eye, model, useDivider, easing, divider);
+    } else {
+      model.move(movingTrack);
+    }
+  }
+
+  /**
+   * Move the eye to the given phase of its sweep. The phase is scaled to the range the animation
+   * model sweeps across, and looked up from the table of eased positions if an easing profile is
+   * used, so eyes on tracks of different widths are at the same point of their sweeps for the
+   * same phase.
+   *
+   * @param model {@link AnimationModel} The animation model moving the eye.
+   * @param gapped {@link Boolean} Whether the elements are laid out with gaps between them.
+   * @param easing {@link Integer} The easing profile of the movement.
+   * @param sweepPhase {@link Double} The phase of the sweep, from <code>0</code> at the start to
+   *     <code>1</code> at the end of the range.
+   * @param increasing {@link Boolean} Whether the eye currently moves towards the end.
+   * @author Griefed
+   */
+  void moveTo(
+      @NotNull AnimationModel model,
+      boolean gapped,
+      int easing,
+      double sweepPhase,
+      boolean increasing) {
+    movingTrack.eye = eye;
+    movingTrack.gapped = gapped;
+
+    double start = model.sweepStart(movingTrack);
+    double span = model.sweepEnd(movingTrack) - start;
+    if (span <= 0.0D) {
+      return;
+    }
+
+    if (easing != EASING_LINEAR) {
+      if (easedProfile != easing || easedSpan != span) {
+        calculateEasing(easing, span);
+      }
+      eye.position = (short) (start + easedOffsets[(int) (sweepPhase * EASING_STEPS)]);
+    } else {
+      eye.position = (short) Math.round(start + sweepPhase * span);
+    }
+    eye.phase = sweepPhase * EASING_STEPS;
+    eye.increasing = increasing;
+  }
+
+  /**
+   * Update the position of the eye along the table of eased positions. Instead of moving the
+   * position itself, a phase is moved from <code>0</code> to {@link #EASING_STEPS} and back, and
+   * the position is read from the table for the current phase. A full sweep takes the same number
+   * of updates as with linear motion, so the divider keeps controlling the speed.
+   *
+   * <p>The range the eye sweeps across is given by the animation model. With the built-in models,
+   * the eye sweeps from <code>0</code> to the width of the track in Cylon-style, and additionally
+   * leaves the track by the width of the eye on either side in Kitt-style. Whenever said range or
+   * the easing profile changes, the table is calculated anew and the phase is set to match the
+   * current position, so the eye does not jump.
+   *
+   * @param eye {@link EyeMotion} The eye to move.
+   * @param model {@link AnimationModel} The animation model moving the eye.
+   * @param useDivider {@link Boolean} Whether the phase is in-/decremented using the divider.
+   * @param easing {@link Integer} The easing profile of the movement.
+   * @param divider {@link Double} The divider with which to in-/decrement the phase.
+   * @author Griefed
+   */
+  private void moveEased(
+      @NotNull EyeMotion eye,
+      @NotNull AnimationModel model,
+      boolean useDivider,
+      int easing,
+      double divider) {
+    double start = model.sweepStart(movingTrack);
+    double end = model.sweepEnd(movingTrack);
+    double span = end - start;
+    if (span <= 0.0D) {
+      return;
+    }
+
+    if (easedProfile != easing || easedSpan != span) {
+      calculateEasing(easing, span);
+      eye.phase = phaseOf(eye.position - start);
+    }
+
+    double advance;
+    if (useDivider) {
+      advance = EASING_STEPS / divider;
+    } else {
+      advance = EASING_STEPS / span;
+    }
+
+    if (eye.increasing) {
+      // left to right
+
+      eye.phase += advance;
+      if (eye.phase >= EASING_STEPS) {
+        eye.phase = EASING_STEPS;
+        eye.increasing = false;
+      }
+
+    } else {
+      // right to left
+
+      eye.phase -= advance;
+      if (eye.phase <= 0.0D) {
+        eye.phase = 0.0D;
+        eye.increasing = true;
+      }
+    }
+
+    eye.position = (short) (start + easedOffsets[(int) eye.phase]);
+  }
+
+  /**
+   * Update the afterglow for the new position of the eye. Every column of the afterglow fades by
+   * the same factor, chosen so the trail fades to {@link #AFTERGLOW_FADE} while the eye travels
+   * its own width, after which the columns between the previous and the current position of the
+   * eye are lit up fully. The cost of an update only depends on the width of the track.
+   *
+   * @param eye {@link EyeMotion} The eye which moved.
+   * @param useDivider {@link Boolean} Whether the position is in-/decremented using the divider.
+   * @param divider {@link Double} The divider with which the position is in-/decremented.
+   * @author Griefed
+   */
+  void updateAfterglow(@NotNull EyeMotion eye, boolean useDivider, double divider) {
+    int columns = (int) width;
+    if (columns <= 0 || partition <= 0.0D) {
+      return;
+    }
+
+    int[] glow = this.glow;
+    if (glow.length != columns) {
+      glow = new int[columns];
+      eye.glowPosition = eye.position;
+      this.glow = glow;
+    }
+
+    double ticks;
+    if (useDivider) {
+      ticks = Math.max(1.0D, divider * partition / width);
+    } else {
+      ticks = Math.max(1.0D, partition);
+    }
+
+    if (ticks != glowTicks) {
+      glowDecay = (int) (0xFFFF * Math.pow(AFTERGLOW_FADE, 1.0D / ticks));
+      glowTicks = ticks;
+    }
+
+    for (int column = 0; column < columns; column++) {
+      glow[column] = glow[column] * glowDecay >>> 16;
+    }
+
+    lightAfterglow(eye);
+  }
+
+  /**
+   * Light up the columns of the afterglow between the previous and the current position of the
+   * eye. Several eyes moved along the same track may light up the same afterglow, which fades once
+   * per update for all of them.
+   *
+   * @param eye {@link EyeMotion} The eye which moved.
+   * @author Griefed
+   */
+  void lightAfterglow(@NotNull EyeMotion eye) {
+    int[] glow = this.glow;
+    double halfElement = elementWidth / 2.0D;
+    int from = (int) Math.max(0.0D, Math.min(eye.glowPosition, eye.position) - halfElement);
+    int to = (int) Math.min(glow.length, Math.max(eye.glowPosition, eye.position) + halfElement);
+    for (int column = from; column < to; column++) {
+      glow[column] = AFTERGLOW_FULL;
+    }
+    eye.glowPosition = eye.position;
+  }
+
+  /**
+   * Lay out the elements of the eye at its current position, with the current settings. The
+   * elements are available through {@link #getElementVariant(int)}, {@link
+   * #getElementNumber(int)} and {@link #getElementStart(int)} until the next layout, in the order
+   * they are to be drawn. Elements may be laid out more than once, or not at all.
+   *
+   * @return {@link Integer} The number of elements laid out.
+   * @author Griefed
+   */
+  public int layout() {
+    return layout(animationModel, gapped, eye.position, eye.increasing);
+  }
+
+  /**
+   * Lay out the elements of an eye at the given position and direction.
+   *
+   * @param model {@link AnimationModel} The animation model laying out the elements.
+   * @param gapped {@link Boolean} Whether the elements are laid out with gaps between them.
+   * @param position {@link Double} The position of the eye to lay out.
+   * @param increasing {@link Boolean} Whether the eye moves towards the end of the track.
+   * @return {@link Integer} The number of elements laid out.
+   * @author Griefed
+   */
+  int layout(@NotNull AnimationModel model, boolean gapped, double position, boolean increasing) {
+    laidOutTrack.gapped = gapped;
+    laidOutTrack.position = position;
+    laidOutTrack.increasing = increasing;
+    elementCount = 0;
+    model.layout(laidOutTrack, laidOutTrack);
+    return elementCount;
+  }
+
+  /**
+   * Get the sprite variant of an element of the last layout. Either {@link
+   * AnimationModel.Layout#VARIANT_SOLID}, {@link AnimationModel.Layout#VARIANT_CYLON} or {@link
+   * AnimationModel.Layout#VARIANT_KITT}.
+   *
+   * @param index {@link Integer} The index of the element in the layout.
+   * @return {@link Byte} The variant to draw the element with.
+   * @author Griefed
+   */
+  public byte getElementVariant(int index) {
+    return elementVariants[index];
+  }
+
+  /**
+   * Get the number of an element of the last layout, from <code>0</code> to the number of
+   * elements in the eye.
+   *
+   * @param index {@link Integer} The index of the element in the layout.
+   * @return {@link Byte} The number of the element.
+   * @author Griefed
+   */
+  public byte getElementNumber(int index) {
+    return elementNumbers[index];
+  }
+
+  /**
+   * Get the position along the track at which an element of the last layout starts.
+   *
+   * @param index {@link Integer} The index of the element in the layout.
+   * @return {@link Double} The start of the element.
+   * @author Griefed
+   */
+  public double getElementStart(int index) {
+    return elementStarts[index];
+  }
+
+  /**
+   * Calculate the path of a ring, holding the point and direction along the ring for every
+   * position along the track of the eye. The path is only calculated anew if the size or the
+   * position of the ring changed, and its tables are only reallocated if the ring grew.
+   *
+   * @author Griefed
+   */
+  private void calculatePath() {
+    int length = Math.max(1, (int) Math.round(width));
+    double radius = width / (2.0D * Math.PI);
+    double centreX = componentWidth / 2.0D;
+    double centreY = componentHeight / 2.0D;
+
+    if (length == pathLength
+        && radius == pathRadius
+        && centreX == pathCentreX
+        && centreY == pathCentreY) {
+      return;
+    }
+
+    if (pathX.length < length) {
+      pathX = new double[length];
+      pathY = new double[length];
+      pathCos = new double[length];
+      pathSin = new double[length];
+    }
+
+    for (int position = 0; position < length; position++) {
+      // Clockwise, starting at the top
+      double angle = 2.0D * Math.PI * position / length - Math.PI / 2.0D;
+      double cos = Math.cos(angle);
+      double sin = Math.sin(angle);
+
+      pathX[position] = centreX + radius * cos;
+      pathY[position] = centreY + radius * sin;
+      pathCos[position] = -sin;
+      pathSin[position] = cos;
+    }
+
+    pathLength = length;
+    pathRadius = radius;
+    pathCentreX = centreX;
+    pathCentreY = centreY;
+  }
+
+  /**
+   * Get the index of the point of the path of a ring closest to the given position.
+   *
+   * @param position {@link Double} The position along the track.
+   * @return {@link Integer} The index of the point in the tables of the path.
+   * @author Griefed
+   */
+  private int pathIndex(double position) {
+    return Math.floorMod((int) Math.round(position), pathLength);
+  }
+
+  /**
+   * Calculate the table of eased positions for the given easing profile and range. The table is
+   * allocated once and filled in place, so recalculating it after a resize creates no objects.
+   *
+   * @param profile {@link Integer} The easing profile to calculate the table for.
+   * @param span {@link Double} The range the eye sweeps across.
+   * @author Griefed
+   */
+  private void calculateEasing(int profile, double span) {
+    Object event = ScannerEvents.begin(ScannerEvents.CACHE_REBUILD);
+    double speed = 1.0D / (1.0D - KITT_EASING_RAMP);
+
+    for (int step = 0; step <= EASING_STEPS; step++) {
+      double t = (double) step / EASING_STEPS;
+      double eased;
+
+      if (profile == EASING_SINE) {
+
+        eased = (1.0D - Math.cos(Math.PI * t)) / 2.0D;
+
+      } else if (profile == EASING_CUBIC) {
+
+        eased = t < 0.5D ? 4.0D * t * t * t : 1.0D - Math.pow(2.0D - 2.0D * t, 3.0D) / 2.0D;
+
+      } else if (t < KITT_EASING_RAMP) {
+
+        eased = speed / KITT_EASING_RAMP / 2.0D * t * t;
+
+      } else if (t > 1.0D - KITT_EASING_RAMP) {
+
+        eased = 1.0D - speed / KITT_EASING_RAMP / 2.0D * (1.0D - t) * (1.0D - t);
+
+      } else {
+
+        eased = speed * (t - KITT_EASING_RAMP / 2.0D);
+      }
+
+      easedOffsets[step] = (short) Math.round(eased * span);
+    }
+
+    easedProfile = profile;
+    easedSpan = span;
+    commitEvent(event, "easing");
+  }
+
+  /**
+   * Find the phase at which the table of eased positions reaches the given offset.
+   *
+   * @param offset {@link Double} The offset of the position from the start of the sweep.
+   * @return {@link Double} The first phase whose eased position is at or beyond the offset.
+   * @author Griefed
+   */
+  private double phaseOf(double offset) {
+    int low = 0;
+    int high = EASING_STEPS;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (easedOffsets[middle] < offset) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Commit an event begun with {@link ScannerEvents#begin(int)} for the current tick. Does
+   * nothing if the event is not recorded.
+   *
+   * @param event {@link Object} The event to commit, or <code>null</code>.
+   * @param detail {@link String} The cache the event covers.
+   * @author Griefed
+   */
+  private void commitEvent(Object event, @NotNull String detail) {
+    if (event != null) {
+      ScannerEvents.commit(event, instance, ticks.get(), detail);
+    }
+  }
+
+  /**
+   * The position, direction and phase of one eye moving along the track of an engine. Every eye
+   * moved along the same track has a motion of its own, so moving one eye never touches the
+   * position of another.
+   *
+   * @author Griefed
+   */
+  static class EyeMotion {
+
+    short position = 0;
+    boolean increasing = true;
+    double phase = 0.0D;
+    double glowPosition = 0.0D;
+  }
+
+  /**
+   * The track of the eye being moved, backed by the motion of said eye. Only used on the thread
+   * moving the eyes.
+   *
+   * @author Griefed
+   */
+  private final class MovingTrack implements AnimationModel.Motion {
+
+    private EyeMotion eye;
+    private boolean gapped;
+    private boolean useDivider;
+    private double divider;
+
+    @Override
+    public double getPosition() {
+      return eye.position;
+    }
+
+    @Override
+    public void setPosition(double position) {
+      eye.position = (short) position;
+    }
+
+    @Override
+    public boolean isIncreasing() {
+      return eye.increasing;
+    }
+
+    @Override
+    public void setIncreasing(boolean increasing) {
+      eye.increasing = increasing;
+    }
+
+    @Override
+    public double getLength() {
+      return width;
+    }
+
+    @Override
+    public double getElementWidth() {
+      return elementWidth;
+    }
+
+    @Override
+    public double getGapWidth() {
+      return gapped ? gapWidth : 0.0D;
+    }
+
+    @Override
+    public boolean isGapped() {
+      return gapped;
+    }
+
+    @Override
+    public byte getNumberOfElements() {
+      return numberOfElements;
+    }
+
+    @Override
+    public double getDivider() {
+      return divider;
+    }
+
+    @Override
+    public boolean isDividerActive() {
+      return useDivider;
+    }
+  }
+
+  /**
+   * The track of the eye being laid out, backed by the position and direction to lay out, which
+   * writes every element laid out on it to the tables of the layout. Only used on the thread
+   * laying out the eye.
+   *
+   * @author Griefed
+   */
+  private final class LaidOutTrack implements AnimationModel.Track, AnimationModel.Layout {
+
+    private boolean gapped;
+    private double position;
+    private boolean increasing;
+
+    @Override
+    public double getPosition() {
+      return position;
+    }
+
+    @Override
+    public boolean isIncreasing() {
+      return increasing;
+    }
+
+    @Override
+    public double getLength() {
+      return width;
+    }
+
+    @Override
+    public double getElementWidth() {
+      return elementWidth;
+    }
+
+    @Override
+    public double getGapWidth() {
+      return gapped ? gapWidth : 0.0D;
+    }
+
+    @Override
+    public boolean isGapped() {
+      return gapped;
+    }
+
+    @Override
+    public byte getNumberOfElements() {
+      return numberOfElements;
+    }
+
+    @Override
+    public void element(byte variant, byte element, double start) {
+      if (elementCount == elementStarts.length) {
+        elementVariants = Arrays.copyOf(elementVariants, elementCount * 2);
+        elementNumbers = Arrays.copyOf(elementNumbers, elementCount * 2);
+        elementStarts = Arrays.copyOf(elementStarts, elementCount * 2);
+      }
+      elementVariants[elementCount] = variant;
+      elementNumbers[elementCount] = element;
+      elementStarts[elementCount] = start;
+      elementCount++;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package de.griefed.larsonscanner;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Java Flight Recorder events of the Larson Scanner, covering ticks of the animator, painting and
+ * its stages, applying settings and rebuilding cached data. Every event carries the id of the
+ * Larson Scanner and the number of the tick it belongs to, along with its duration.
+ *
+ * <p>This is the version for Java 8, which has no API for custom events, so nothing is recorded
+ * and {@link #begin(int)} always returns <code>null</code>. The JAR of the Larson Scanner is a
+ * multi-release JAR which contains a version of this class for Java 11 and newer, recording the
+ * events as <code>de.griefed.larsonscanner.*</code> in the category <code>Larson Scanner</code>.
+ * Both versions must keep the same methods and constants.
+ *
+ * @author Griefed
+ */
+final class ScannerEvents {
+
+  /** One update of the position of the eye. */
+  static final int TICK = 0;
+
+  /** Painting one frame of the eye. */
+  static final int PAINT = 1;
+
+  /** One stage of painting a frame, named by the detail of the event. */
+  static final int PAINT_STAGE = 2;
+
+  /** Applying a configuration to the eye, with or without a transition. */
+  static final int APPLY = 3;
+
+  /** Rebuilding cached data of the eye, named by the detail of the event. */
+  static final int CACHE_REBUILD = 4;
+
+  private ScannerEvents() {}
+
+  /**
+   * Begin an event of the given type, if such events are being recorded.
+   *
+   * @param type {@link Integer} The type of the event.
+   * @return {@link Object} The begun event, or <code>null</code> if the event is not recorded.
+   * @author Griefed
+   */
+  static @Nullable Object begin(int type) {
+    return null;
+  }
+
+  /**
+   * End and commit an event begun with {@link #begin(int)}. Does nothing if the event is <code>
+   * null</code>.
+   *
+   * @param event {@link Object} The event to commit, or <code>null</code>.
+   * @param instance {@link Integer} The id of the Larson Scanner.
+   * @param frame {@link Long} The number of the tick the event belongs to.
+   * @param detail {@link String} The stage or cache the event covers, or <code>null</code>.
+   * @author Griefed
+   */
+  static void commit(@Nullable Object event, int instance, long frame, @Nullable String detail) {}
+}
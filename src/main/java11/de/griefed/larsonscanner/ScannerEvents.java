@@ -0,0 +1,158 @@
+package de.griefed.larsonscanner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Java Flight Recorder events of the Larson Scanner, covering ticks of the animator, painting and
+ * its stages, applying settings and rebuilding cached data. Every event carries the id of the
+ * Larson Scanner and the number of the tick it belongs to, along with its duration.
+ *
+ * <p>This is the version for Java 11 and newer, packaged in <code>META-INF/versions/11</code> of
+ * the multi-release JAR. Whether a type of event is enabled is asked of one shared instance per
+ * type, which is never begun or committed, so events are only created while they are enabled in
+ * a recording, and nothing is allocated otherwise. Both versions must keep the same methods and
+ * constants.
+ *
+ * @author Griefed
+ */
+final class ScannerEvents {
+
+  /** One update of the position of the eye. */
+  static final int TICK = 0;
+
+  /** Painting one frame of the eye. */
+  static final int PAINT = 1;
+
+  /** One stage of painting a frame, named by the detail of the event. */
+  static final int PAINT_STAGE = 2;
+
+  /** Applying a configuration to the eye, with or without a transition. */
+  static final int APPLY = 3;
+
+  /** Rebuilding cached data of the eye, named by the detail of the event. */
+  static final int CACHE_REBUILD = 4;
+
+  /** One instance per type of event, only used for asking whether the type is enabled. */
+  private static final ScannerEvent[] PROBES = {
+    new TickEvent(),
+    new PaintEvent(),
+    new PaintStageEvent(),
+    new ApplyEvent(),
+    new CacheRebuildEvent()
+  };
+
+  private ScannerEvents() {}
+
+  /**
+   * Begin an event of the given type, if such events are being recorded.
+   *
+   * @param type {@link Integer} The type of the event.
+   * @return {@link Object} The begun event, or <code>null</code> if the event is not recorded.
+   * @author Griefed
+   */
+  static @Nullable Object begin(int type) {
+    if (!PROBES[type].isEnabled()) {
+      return null;
+    }
+
+    ScannerEvent event;
+    switch (type) {
+      case TICK:
+        event = new TickEvent();
+        break;
+      case PAINT:
+        event = new PaintEvent();
+        break;
+      case PAINT_STAGE:
+        event = new PaintStageEvent();
+        break;
+      case APPLY:
+        event = new ApplyEvent();
+        break;
+      default:
+        event = new CacheRebuildEvent();
+        break;
+    }
+
+    event.begin();
+    return event;
+  }
+
+  /**
+   * End and commit an event begun with {@link #begin(int)}. Does nothing if the event is <code>
+   * null</code>, or if it is shorter than the threshold of the recording.
+   *
+   * @param event {@link Object} The event to commit, or <code>null</code>.
+   * @param instance {@link Integer} The id of the Larson Scanner.
+   * @param frame {@link Long} The number of the tick the event belongs to.
+   * @param detail {@link String} The stage or cache the event covers, or <code>null</code>.
+   * @author Griefed
+   */
+  static void commit(@Nullable Object event, int instance, long frame, @Nullable String detail) {
+    if (event == null) {
+      return;
+    }
+
+    ScannerEvent scannerEvent = (ScannerEvent) event;
+    scannerEvent.end();
+    if (scannerEvent.shouldCommit()) {
+      scannerEvent.instance = instance;
+      scannerEvent.frame = frame;
+      scannerEvent.detail = detail;
+      scannerEvent.commit();
+    }
+  }
+
+  /**
+   * Fields shared by all events of the Larson Scanner.
+   *
+   * @author Griefed
+   */
+  @Category("Larson Scanner")
+  @StackTrace(false)
+  private abstract static class ScannerEvent extends Event {
+
+    @Label("Instance")
+    @Description("Id of the Larson Scanner, in the order of creation")
+    int instance;
+
+    @Label("Frame")
+    @Description("Number of the tick of the eye the event belongs to")
+    long frame;
+
+    @Label("Detail")
+    @Description("The stage of painting or the cache the event covers")
+    String detail;
+  }
+
+  @Name("de.griefed.larsonscanner.Tick")
+  @Label("Tick")
+  @Description("One update of the position of the eye")
+  private static final class TickEvent extends ScannerEvent {}
+
+  @Name("de.griefed.larsonscanner.Paint")
+  @Label("Paint")
+  @Description("Painting one frame of the eye in paintComponent")
+  private static final class PaintEvent extends ScannerEvent {}
+
+  @Name("de.griefed.larsonscanner.PaintStage")
+  @Label("Paint Stage")
+  @Description("One stage of painting a frame of the eye")
+  private static final class PaintStageEvent extends ScannerEvent {}
+
+  @Name("de.griefed.larsonscanner.Apply")
+  @Label("Apply Settings")
+  @Description("Applying a configuration to the eye")
+  private static final class ApplyEvent extends ScannerEvent {}
+
+  @Name("de.griefed.larsonscanner.CacheRebuild")
+  @Label("Cache Rebuild")
+  @Description("Rebuilding cached sprites, geometry or easing of the eye")
+  private static final class CacheRebuildEvent extends ScannerEvent {}
+}
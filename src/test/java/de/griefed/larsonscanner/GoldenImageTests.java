@@ -0,0 +1,216 @@
+package de.griefed.larsonscanner;
+
+import de.griefed.larsonscanner.LarsonScanner.ScannerConfig;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GoldenImageTests {
+
+  // Renders frames of a matrix of configurations at fixed positions and compares them with the
+  // reference images in src/test/resources/golden. Run with -Dlarsonscanner.updateGoldenImages=true
+  // to write new reference images after an intended change of the output.
+  private static final boolean UPDATE = Boolean.getBoolean("larsonscanner.updateGoldenImages");
+  private static final Path REFERENCES = Paths.get("src", "test", "resources", "golden");
+  private static final Path DIFFS = Paths.get("build", "golden");
+  private static final int FRAMES = 6;
+  private static final int TICKS_PER_FRAME = 7;
+  // Largest perceptual distance between two pixels still considered equal, and the share of
+  // pixels which may exceed it, to allow for differences in antialiasing between Java versions.
+  private static final double TOLERANCE = 6.0D;
+  private static final double MAX_DIFFERING_PIXELS = 0.001D;
+
+  @Test
+  void goldenImageTests() throws Exception {
+    List<String> failures = new ArrayList<>();
+    for (Map.Entry<String, Consumer<ScannerConfig>> entry : configs().entrySet()) {
+      ScannerConfig config = new ScannerConfig();
+      entry.getValue().accept(config);
+      int width = 400;
+      int height = 40;
+      if (config.getOrientation() == ScannerConfig.ORIENTATION_VERTICAL) {
+        width = 40;
+        height = 400;
+      } else if (config.getOrientation() == ScannerConfig.ORIENTATION_RING) {
+        width = 200;
+        height = 200;
+      }
+
+      BufferedImage actual = render(config, width, height);
+      Assertions.assertEquals(0, compare(actual, render(config, width, height), null), entry.getKey() + " is not deterministic");
+      String failure = check(entry.getKey(), actual);
+      if (failure != null) {
+        failures.add(failure);
+      }
+    }
+    Assertions.assertTrue(failures.isEmpty(), String.join("\n", failures));
+  }
+
+  private static Map<String, Consumer<ScannerConfig>> configs() {
+    Map<String, Consumer<ScannerConfig>> configs = new LinkedHashMap<>();
+    for (boolean cylon : new boolean[] {true, false}) {
+      for (boolean oval : new boolean[] {true, false}) {
+        for (boolean gradient : new boolean[] {true, false}) {
+          configs.put(
+              (cylon ? "cylon" : "kitt") + (oval ? "-oval" : "-rectangle") + (gradient ? "-gradient" : "-solid"),
+              config -> {
+                config.setCylonAnimation(cylon);
+                config.setOvalShaped(oval);
+                config.setUseGradients(gradient);
+              });
+        }
+      }
+    }
+    configs.put("cylon-oval-high", config -> config.setQualitySetting(ScannerConfig.HIGH));
+    configs.put(
+        "kitt-rectangle-medium",
+        config -> {
+          config.setCylonAnimation(false);
+          config.setOvalShaped(false);
+          config.setQualitySetting(ScannerConfig.MEDIUM);
+        });
+    configs.put("no-divider", config -> config.setUseDivider(false));
+    configs.put(
+        "nine-elements",
+        config -> {
+          config.setNumberOfElements((byte) 9);
+          config.setAlphas(new short[] {50, 100, 150, 200, 255, 200, 150, 100, 50});
+          config.setEyeColours(new Color[] {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.CYAN, Color.BLUE, Color.MAGENTA, Color.PINK, Color.WHITE});
+        });
+    configs.put(
+        "fractions-gap-partition",
+        config -> {
+          config.setFractions(0.1f, 0.7f);
+          config.setGapPercent(50.0f);
+          config.setPartitionDivider(10.0D);
+        });
+    configs.put(
+        "backgrounds",
+        config -> {
+          config.setScannerBackgroundColour(new Color(0, 64, 64));
+          config.setEyeBackgroundColour(new Color(64, 0, 64));
+        });
+    configs.put("aspect-ratio", config -> config.setForceAspectRatio(true));
+    configs.put("afterglow", config -> config.setUseAfterglow(true));
+    configs.put("easing-kitt", config -> config.setEasing(ScannerConfig.EASING_KITT));
+    configs.put("vertical", config -> config.setOrientation(ScannerConfig.ORIENTATION_VERTICAL));
+    configs.put("ring", config -> config.setOrientation(ScannerConfig.ORIENTATION_RING));
+    return configs;
+  }
+
+  // Paints the frames after 0, 7, 14, ... ticks of a paused scanner below each other. The eye is
+  // moved one tick at a time through its private updatePosition, so the positions do not depend
+  // on timing.
+  private static BufferedImage render(ScannerConfig config, int width, int height) throws Exception {
+    LarsonScanner larsonScanner = new LarsonScanner();
+    larsonScanner.pause();
+    larsonScanner.loadConfig(config);
+    larsonScanner.setSize(width, height);
+    larsonScanner.doLayout();
+    Component eye = larsonScanner.getComponent(0);
+    Method updatePosition = eye.getClass().getDeclaredMethod("updatePosition");
+    updatePosition.setAccessible(true);
+
+    BufferedImage image = new BufferedImage(width, height * FRAMES, BufferedImage.TYPE_INT_RGB);
+    for (int frame = 0; frame < FRAMES; frame++) {
+      Graphics2D graphics = image.createGraphics();
+      graphics.translate(0, frame * height);
+      graphics.clipRect(0, 0, width, height);
+      larsonScanner.paint(graphics);
+      graphics.dispose();
+      for (int tick = 0; tick < TICKS_PER_FRAME; tick++) {
+        updatePosition.invoke(eye);
+      }
+    }
+    return image;
+  }
+
+  private static String check(String name, BufferedImage actual) throws IOException {
+    if (UPDATE) {
+      Files.createDirectories(REFERENCES);
+      ImageIO.write(actual, "png", REFERENCES.resolve(name + ".png").toFile());
+      return null;
+    }
+
+    BufferedImage expected;
+    try (InputStream reference = GoldenImageTests.class.getResourceAsStream("/golden/" + name + ".png")) {
+      if (reference == null) {
+        return name + ": no reference image, run with -Dlarsonscanner.updateGoldenImages=true";
+      }
+      expected = ImageIO.read(reference);
+    }
+
+    if (expected.getWidth() != actual.getWidth() || expected.getHeight() != actual.getHeight()) {
+      writeDiff(name, actual, null);
+      return name + ": expected " + expected.getWidth() + "x" + expected.getHeight() + " but rendered " + actual.getWidth() + "x" + actual.getHeight();
+    }
+
+    BufferedImage diff = new BufferedImage(actual.getWidth(), actual.getHeight(), BufferedImage.TYPE_INT_RGB);
+    int differing = compare(expected, actual, diff);
+    if (differing > MAX_DIFFERING_PIXELS * actual.getWidth() * actual.getHeight()) {
+      writeDiff(name, actual, diff);
+      return name + ": " + differing + " pixels differ, see " + DIFFS.resolve(name + "-diff.png");
+    }
+    return null;
+  }
+
+  // Counts the pixels whose perceptual distance exceeds the tolerance. If given, the diff image
+  // shows the expected image dimmed to grey, with differing pixels in red by their distance.
+  private static int compare(BufferedImage expected, BufferedImage actual, BufferedImage diff) {
+    int differing = 0;
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        int one = expected.getRGB(x, y);
+        int two = actual.getRGB(x, y);
+        double distance = distance(one, two);
+        if (distance > TOLERANCE) {
+          differing++;
+        }
+        if (diff != null) {
+          int grey = (((one >> 16) & 0xFF) * 299 + ((one >> 8) & 0xFF) * 587 + (one & 0xFF) * 114) / 4000;
+          int red = (int) Math.min(255.0D, grey + distance * 4.0D);
+          diff.setRGB(x, y, distance > TOLERANCE ? (red << 16) | (grey << 8) | grey : (grey << 16) | (grey << 8) | grey);
+        }
+      }
+    }
+    return differing;
+  }
+
+  // The "redmean" colour distance, which weighs the differences of the channels by how sensitive
+  // the eye is to them, depending on how red the colours are.
+  private static double distance(int one, int two) {
+    int redOne = (one >> 16) & 0xFF;
+    int redTwo = (two >> 16) & 0xFF;
+    double redMean = (redOne + redTwo) / 2.0D;
+    int red = redOne - redTwo;
+    int green = ((one >> 8) & 0xFF) - ((two >> 8) & 0xFF);
+    int blue = (one & 0xFF) - (two & 0xFF);
+    return Math.sqrt(
+        (2.0D + redMean / 256.0D) * red * red
+            + 4.0D * green * green
+            + (2.0D + (255.0D - redMean) / 256.0D) * blue * blue);
+  }
+
+  private static void writeDiff(String name, BufferedImage actual, BufferedImage diff) throws IOException {
+    Files.createDirectories(DIFFS);
+    ImageIO.write(actual, "png", DIFFS.resolve(name + "-actual.png").toFile());
+    if (diff != null) {
+      ImageIO.write(diff, "png", DIFFS.resolve(name + "-diff.png").toFile());
+    }
+  }
+}
@@ -2,11 +2,41 @@ package de.griefed.larsonscanner;
 
 import de.griefed.larsonscanner.LarsonScanner.ScannerConfig;
 import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 public class LarsonScannerTests {
 
+  // Bytes a steady-state tick or frame may allocate. Painting the eye allocates the copy of the
+  // graphics Swing hands to paintComponent and the transform read from it. Both should go to zero.
+  private static final long TICK_ALLOCATION_BUDGET = Long.getLong("larsonscanner.tickAllocationBudget", 16L);
+  private static final long FRAME_ALLOCATION_BUDGET = Long.getLong("larsonscanner.frameAllocationBudget", 512L);
+
   @Test
   void larsonScannerTests() {
     float[] defaultFractions = {0.4f,1.0f};
@@ -152,9 +182,537 @@ public class LarsonScannerTests {
     Assertions.assertTrue(larsonScanner.isDividerActive());
     Assertions.assertTrue(larsonScanner.isCylonAnimation());
 
+    ScannerConfig invalidConfig = new ScannerConfig();
+    invalidConfig.setInterval((short) 10);
+    invalidConfig.setNumberOfElements((byte) 7);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> larsonScanner.loadConfig(invalidConfig));
+    Assertions.assertEquals(100, larsonScanner.getInterval());
+    Assertions.assertEquals(5, larsonScanner.getNumberOfElements());
+    Assertions.assertEquals(5, larsonScanner.getAlphas().length);
+
+    Assertions.assertEquals(ScannerConfig.EASING_LINEAR, larsonScanner.getEasing());
+    larsonScanner.setEasing(ScannerConfig.EASING_KITT);
+    Assertions.assertEquals(ScannerConfig.EASING_KITT, larsonScanner.getEasing());
+    Assertions.assertEquals(ScannerConfig.EASING_KITT, larsonScanner.getCurrentConfig().getEasing());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> larsonScanner.setEasing(4));
+    larsonScanner.loadDefaults();
+    Assertions.assertEquals(ScannerConfig.EASING_LINEAR, larsonScanner.getEasing());
+
+    Assertions.assertFalse(larsonScanner.isAfterglowActive());
+    larsonScanner.useAfterglow(true);
+    Assertions.assertTrue(larsonScanner.isAfterglowActive());
+    Assertions.assertTrue(larsonScanner.getCurrentConfig().isAfterglowActive());
+    larsonScanner.toggleAfterglow();
+    Assertions.assertFalse(larsonScanner.isAfterglowActive());
+
+    Assertions.assertEquals(ScannerConfig.ORIENTATION_HORIZONTAL, larsonScanner.getOrientation());
+    larsonScanner.setOrientation(ScannerConfig.ORIENTATION_RING);
+    Assertions.assertEquals(ScannerConfig.ORIENTATION_RING, larsonScanner.getOrientation());
+    Assertions.assertEquals(ScannerConfig.ORIENTATION_RING, larsonScanner.getCurrentConfig().getOrientation());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> larsonScanner.setOrientation(3));
+    paint(larsonScanner);
+    larsonScanner.setOrientation(ScannerConfig.ORIENTATION_VERTICAL);
+    paint(larsonScanner);
+    larsonScanner.setOrientation(ScannerConfig.ORIENTATION_HORIZONTAL);
+
     //TODO set config tests
     //TODO get config tests
     //TODO set scanner tests
     //TODO get scanner tests
   }
+
+  @Test
+  void spriteCacheFileTests() throws IOException {
+    Path cacheFile = Files.createTempFile("larsonscanner", ".sprites");
+    Files.delete(cacheFile);
+
+    try {
+      LarsonScanner.useSpriteCacheFile(cacheFile);
+      Assertions.assertEquals(cacheFile, LarsonScanner.getSpriteCacheFile());
+      BufferedImage rendered = paint(new LarsonScanner());
+      Assertions.assertTrue(Files.size(cacheFile) > 8);
+
+      LarsonScanner.useSpriteCacheFile(cacheFile);
+      long size = Files.size(cacheFile);
+      BufferedImage cached = paint(new LarsonScanner());
+      Assertions.assertEquals(size, Files.size(cacheFile));
+
+      for (int y = 0; y < rendered.getHeight(); y++) {
+        for (int x = 0; x < rendered.getWidth(); x++) {
+          Assertions.assertEquals(rendered.getRGB(x, y), cached.getRGB(x, y));
+        }
+      }
+    } finally {
+      LarsonScanner.useSpriteCacheFile(null);
+      Assertions.assertNull(LarsonScanner.getSpriteCacheFile());
+      Files.deleteIfExists(cacheFile);
+    }
+  }
+
+  @Test
+  void transitionTests() {
+    LarsonScanner larsonScanner = new LarsonScanner();
+    ScannerConfig config = larsonScanner.getCurrentConfig();
+    config.setInterval((short) 20);
+    config.setGapPercent(50.0f);
+    config.setEyeBackgroundColour(new Color(125, 125, 125));
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> larsonScanner.transitionTo(config, Duration.ofMillis(-1)));
+    Assertions.assertEquals(100, larsonScanner.getInterval());
+
+    larsonScanner.transitionTo(config, Duration.ofSeconds(10));
+    Assertions.assertEquals(20, larsonScanner.getInterval());
+    Assertions.assertEquals(50.0f, larsonScanner.getGapPercent());
+    Assertions.assertEquals(new Color(125, 125, 125), larsonScanner.getEyeBackground());
+    paint(larsonScanner);
+
+    config.setNumberOfElements((byte) 3);
+    config.setAlphas(new short[] {100, 255, 100});
+    config.setEyeColours(new Color[] {Color.BLUE, Color.BLUE, Color.BLUE});
+    larsonScanner.transitionTo(config, Duration.ofSeconds(10));
+    Assertions.assertEquals(3, larsonScanner.getNumberOfElements());
+    paint(larsonScanner);
+  }
+
+  @Test
+  void multipleEyesTests() {
+    LarsonScanner larsonScanner = new LarsonScanner();
+    Assertions.assertEquals(1, larsonScanner.getNumberOfEyes());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> larsonScanner.addEye(Color.GREEN, (short) 0, 0.5, false));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> larsonScanner.addEye(Color.GREEN, (short) 25, 1.5, false));
+    Assertions.assertEquals(1, larsonScanner.getNumberOfEyes());
+
+    larsonScanner.addEye(Color.GREEN, (short) 13, 0.5, true);
+    larsonScanner.addEye(Color.BLUE, (short) 33, 0.9, false);
+    Assertions.assertEquals(3, larsonScanner.getNumberOfEyes());
+    paint(larsonScanner);
+
+    larsonScanner.setNumberOfElements((byte) 3);
+    larsonScanner.useAfterglow(true);
+    Assertions.assertEquals(3, larsonScanner.getNumberOfEyes());
+    paint(larsonScanner);
+
+    larsonScanner.removeEyes();
+    Assertions.assertEquals(1, larsonScanner.getNumberOfEyes());
+  }
+
+  @Test
+  void customAnimationTests() {
+    LarsonScanner larsonScanner = new LarsonScanner();
+    Assertions.assertSame(AnimationModel.CYLON, larsonScanner.getAnimationModel());
+    Assertions.assertSame(LarsonScanner.ShapeRenderer.OVAL, larsonScanner.getShapeRenderer());
+
+    AnimationModel model = new AnimationModel() {
+      @Override
+      public void move(AnimationModel.Motion motion) {
+        motion.setPosition((motion.getPosition() + motion.getElementWidth()) % motion.getLength());
+      }
+
+      @Override
+      public double sweepStart(AnimationModel.Track track) {
+        return 0.0D;
+      }
+
+      @Override
+      public double sweepEnd(AnimationModel.Track track) {
+        return track.getLength();
+      }
+
+      @Override
+      public void layout(AnimationModel.Track track, AnimationModel.Layout layout) {
+        for (byte element = 0; element < track.getNumberOfElements(); element++) {
+          layout.element(LarsonScanner.ShapeRenderer.VARIANT_SOLID, element, track.getPosition() + element * track.getElementWidth());
+        }
+      }
+    };
+    LarsonScanner.ShapeRenderer renderer = new LarsonScanner.ShapeRenderer() {
+      @Override
+      public boolean hasGaps() {
+        return false;
+      }
+
+      @Override
+      public void render(Graphics2D g2d, LarsonScanner.ShapeRenderer.Palette palette, byte variant, byte element, int spriteWidth, int spriteHeight) {
+        g2d.setColor(palette.getEyeColour(element));
+        g2d.fillRect(0, 0, spriteWidth, spriteHeight);
+      }
+    };
+
+    larsonScanner.setAnimationModel(model);
+    larsonScanner.setShapeRenderer(renderer);
+    Assertions.assertSame(model, larsonScanner.getAnimationModel());
+    Assertions.assertSame(renderer, larsonScanner.getShapeRenderer());
+    Assertions.assertEquals(Color.RED.getRGB(), paint(larsonScanner).getRGB(2, 20));
+
+    larsonScanner.setAnimationModel(null);
+    larsonScanner.setShapeRenderer(null);
+    larsonScanner.drawOval(false);
+    Assertions.assertSame(AnimationModel.CYLON, larsonScanner.getAnimationModel());
+    Assertions.assertSame(LarsonScanner.ShapeRenderer.RECTANGLE, larsonScanner.getShapeRenderer());
+  }
+
+  @Test
+  void scannerGroupTests() throws InterruptedException {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new LarsonScanner.ScannerGroup((short) 0, (short) 25));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new LarsonScanner.ScannerGroup((short) 10, (short) 0));
+
+    LarsonScanner.ScannerGroup group = new LarsonScanner.ScannerGroup((short) 10, (short) 5);
+    LarsonScanner.ScannerGroup other = new LarsonScanner.ScannerGroup();
+    LarsonScanner first = new LarsonScanner();
+    LarsonScanner second = new LarsonScanner();
+    first.setSize(400, 40);
+    second.setSize(200, 40);
+    first.play();
+    second.play();
+
+    group.add(first);
+    group.add(second);
+    group.add(second);
+    Assertions.assertEquals(2, group.getNumberOfScanners());
+    Assertions.assertSame(group, second.getScannerGroup());
+    Thread.sleep(100);
+    paint(first);
+
+    other.add(second);
+    Assertions.assertEquals(1, group.getNumberOfScanners());
+    Assertions.assertSame(other, second.getScannerGroup());
+
+    group.remove(first);
+    other.remove(second);
+    Assertions.assertEquals(0, group.getNumberOfScanners());
+    Assertions.assertNull(first.getScannerGroup());
+    Assertions.assertNull(second.getScannerGroup());
+  }
+
+  @Test
+  void speedBindingTests() throws Exception {
+    LarsonScanner larsonScanner = new LarsonScanner();
+    Assertions.assertEquals(1.0D, larsonScanner.getSpeed());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> larsonScanner.bindSpeed(() -> 1L, 0L, depth -> depth));
+
+    AtomicLong depth = new AtomicLong(300L);
+    larsonScanner.bindSpeed(depth::get, 5L, value -> value / 100.0D);
+    Thread.sleep(100);
+    Assertions.assertEquals(3.0D, larsonScanner.getSpeed());
+
+    depth.set(-50L);
+    Thread.sleep(100);
+    Assertions.assertEquals(0.0D, larsonScanner.getSpeed());
+
+    larsonScanner.bindSpeed(() -> Double.NaN, 5L, value -> value);
+    Thread.sleep(100);
+    Assertions.assertEquals(0.0D, larsonScanner.getSpeed());
+
+    larsonScanner.unbindSpeed();
+    Assertions.assertEquals(1.0D, larsonScanner.getSpeed());
+
+    // Below the width of an element per sweep, a divided step would be truncated to nothing.
+    LarsonScanner slow = new LarsonScanner();
+    paint(slow);
+    slow.bindSpeed(() -> 1.0D / 32.0D, 5L, speed -> speed);
+    Thread.sleep(100);
+    Assertions.assertEquals(1.0D / 32.0D, slow.getSpeed());
+    Assertions.assertEquals(0, updatePositions(slow, 31));
+    Assertions.assertEquals(16, updatePositions(slow, 1));
+
+    LarsonScanner fast = new LarsonScanner();
+    fast.useDivider(false);
+    paint(fast);
+    fast.bindSpeed(() -> 3.0D, 5L, speed -> speed);
+    Thread.sleep(100);
+    Assertions.assertEquals(3, updatePositions(fast, 1));
+
+    // Capped at a fifth of its frames, the eye moves five times as far per update.
+    LarsonScanner capped = new LarsonScanner((short) 10);
+    paint(capped);
+    capped.setMaxFramesPerSecond(20);
+    Assertions.assertEquals(80, updatePositions(capped, 1));
+    capped.useDivider(false);
+    Assertions.assertEquals(85, updatePositions(capped, 1));
+  }
+
+  private static int updatePositions(LarsonScanner larsonScanner, int ticks) throws Exception {
+    Component eye = larsonScanner.getComponent(0);
+    Method updatePosition = eye.getClass().getDeclaredMethod("updatePosition");
+    updatePosition.setAccessible(true);
+    for (int tick = 0; tick < ticks; tick++) {
+      updatePosition.invoke(eye);
+    }
+    Field engine = eye.getClass().getDeclaredField("engine");
+    engine.setAccessible(true);
+    return ((ScannerEngine) engine.get(eye)).getPosition();
+  }
+
+  @Test
+  void frameMetricsTests() throws InterruptedException {
+    LarsonScanner larsonScanner = new LarsonScanner((short) 5);
+    LarsonScanner.FrameMetrics before = larsonScanner.getFrameMetrics();
+    Assertions.assertEquals(0L, before.getTicks());
+    Assertions.assertEquals(0L, before.getTickJitter().getCount());
+    Assertions.assertEquals(0L, before.getPaintDuration().getPercentile(0.99D));
+
+    larsonScanner.play();
+    Thread.sleep(100);
+    paint(larsonScanner);
+
+    LarsonScanner.FrameMetrics metrics = larsonScanner.getFrameMetrics();
+    Assertions.assertTrue(metrics.getTicks() > 1L);
+    Assertions.assertEquals(metrics.getTicks() - 1L, metrics.getTickJitter().getCount());
+    Assertions.assertEquals(1L, metrics.getFramesPainted());
+    Assertions.assertTrue(metrics.getFramesCoalesced() > 0L);
+    Assertions.assertTrue(metrics.getPaintDuration().getPercentile(0.5D) <= metrics.getPaintDuration().getMax());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> metrics.getTickJitter().getPercentile(1.5D));
+    Assertions.assertTrue(LarsonScanner.getAnimationMetrics().getTicks() >= metrics.getTicks());
+    Assertions.assertTrue(metrics.getTickCpuTime() > 0L);
+    Assertions.assertEquals(metrics.getTickCpuTime() + metrics.getPaintTime(), metrics.getCpuTime());
+    Assertions.assertTrue(LarsonScanner.getAnimationMetrics().getCpuTime() >= metrics.getCpuTime());
+  }
+
+  @Test
+  void mbeanTests() throws Exception {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName all = new ObjectName("de.griefed.larsonscanner:type=LarsonScanner,name=All");
+    ObjectName named = new ObjectName("de.griefed.larsonscanner:type=LarsonScanner,name=\"first\"");
+    LarsonScanner first = new LarsonScanner();
+    LarsonScanner second = new LarsonScanner();
+
+    first.registerMBean("first");
+    second.registerMBean("second");
+    Assertions.assertThrows(IllegalArgumentException.class, () -> second.registerMBean("first"));
+    first.registerMBean("first");
+    Assertions.assertTrue(server.isRegistered(named));
+    Assertions.assertTrue(server.isRegistered(all));
+    Assertions.assertEquals(2, server.getAttribute(all, "NumberOfScanners"));
+
+    first.play();
+    second.play();
+    server.invoke(all, "pauseAll", null, null);
+    Assertions.assertEquals(2, server.getAttribute(all, "PausedScanners"));
+    Assertions.assertEquals(true, server.getAttribute(named, "Paused"));
+    Assertions.assertTrue((Double) server.getAttribute(named, "CpuTimeMillis") >= 0.0D);
+
+    server.invoke(all, "useQualityForAll", new Object[] {ScannerConfig.HIGH}, new String[] {"int"});
+    server.setAttribute(all, new Attribute("MaxFramesPerSecond", 20));
+    Assertions.assertEquals(ScannerConfig.HIGH, second.getQualitySetting());
+    Assertions.assertEquals(20, first.getMaxFramesPerSecond());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> first.setMaxFramesPerSecond(-1));
+
+    first.unregisterMBean();
+    Assertions.assertFalse(server.isRegistered(named));
+    second.unregisterMBean();
+    Assertions.assertFalse(server.isRegistered(all));
+  }
+
+  @Test
+  void debugOverlayTests() {
+    LarsonScanner larsonScanner = new LarsonScanner();
+    Assertions.assertFalse(larsonScanner.isDebugOverlayActive());
+    BufferedImage plain = paint(larsonScanner);
+
+    larsonScanner.useDebugOverlay(true);
+    Assertions.assertTrue(larsonScanner.isDebugOverlayActive());
+    BufferedImage overlaid = paint(larsonScanner);
+    boolean drawn = false;
+    for (int x = 0; x < 60 && !drawn; x++) {
+      for (int y = 0; y < 30 && !drawn; y++) {
+        drawn = plain.getRGB(x, y) != overlaid.getRGB(x, y);
+      }
+    }
+    Assertions.assertTrue(drawn);
+    Assertions.assertEquals(2L, larsonScanner.getFrameMetrics().getFramesPainted());
+
+    larsonScanner.useDebugOverlay(false);
+    Assertions.assertFalse(larsonScanner.isDebugOverlayActive());
+  }
+
+  @Test
+  void allocationTests() throws InterruptedException {
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+    long painter = Thread.currentThread().getId();
+
+    for (boolean cylon : new boolean[] {true, false}) {
+      for (boolean oval : new boolean[] {true, false}) {
+        for (boolean gradient : new boolean[] {true, false}) {
+          String path = (cylon ? "Cylon" : "Kitt") + (oval ? " oval" : " rectangle") + (gradient ? " with gradients" : "");
+          Set<Thread> existing = new HashSet<>(Thread.getAllStackTraces().keySet());
+          LarsonScanner larsonScanner = new LarsonScanner((short) 1);
+          long animator = -1L;
+          for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (!existing.contains(thread) && thread.getName().equals("LarsonScanner Eye")) {
+              animator = thread.getId();
+            }
+          }
+          larsonScanner.useCylonAnimation(cylon);
+          larsonScanner.drawOval(oval);
+          larsonScanner.useGradient(gradient);
+          larsonScanner.setSize(400, 40);
+          larsonScanner.doLayout();
+          Component eye = larsonScanner.getComponent(0);
+          BufferedImage image = new BufferedImage(400, 40, BufferedImage.TYPE_INT_RGB);
+          Graphics2D graphics = image.createGraphics();
+          larsonScanner.play();
+
+          for (int frame = 0; frame < 5000; frame++) {
+            eye.paint(graphics);
+          }
+          Thread.sleep(100);
+
+          long ticks = larsonScanner.getFrameMetrics().getTicks();
+          long tickBytes = threads.getThreadAllocatedBytes(animator);
+          long frameBytes = threads.getThreadAllocatedBytes(painter);
+          for (int frame = 0; frame < 5000; frame++) {
+            eye.paint(graphics);
+          }
+          frameBytes = threads.getThreadAllocatedBytes(painter) - frameBytes;
+          while (larsonScanner.getFrameMetrics().getTicks() - ticks < 500) {
+            Thread.sleep(10);
+          }
+          tickBytes = threads.getThreadAllocatedBytes(animator) - tickBytes;
+          ticks = larsonScanner.getFrameMetrics().getTicks() - ticks;
+          larsonScanner.pause();
+          graphics.dispose();
+
+          Assertions.assertTrue(tickBytes / ticks <= TICK_ALLOCATION_BUDGET, path + " allocated " + tickBytes / ticks + " bytes per tick");
+          Assertions.assertTrue(frameBytes / 5000 <= FRAME_ALLOCATION_BUDGET, path + " allocated " + frameBytes / 5000 + " bytes per frame");
+        }
+      }
+    }
+  }
+
+  @Test
+  void disposeTests() throws InterruptedException {
+    Set<Thread> existing = new HashSet<>(Thread.getAllStackTraces().keySet());
+    LarsonScanner larsonScanner = new LarsonScanner((short) 5);
+    Thread animator = null;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (!existing.contains(thread) && thread.getName().equals("LarsonScanner Eye")) {
+        animator = thread;
+      }
+    }
+    Assertions.assertNotNull(animator);
+    Assertions.assertTrue(animator.isDaemon());
+
+    LarsonScanner.ScannerGroup group = new LarsonScanner.ScannerGroup();
+    group.add(larsonScanner);
+    larsonScanner.bindSpeed(() -> 2.0D, 5L, speed -> speed);
+    larsonScanner.play();
+    Assertions.assertFalse(larsonScanner.isDisposed());
+
+    larsonScanner.dispose();
+    animator.join(1000L);
+    Assertions.assertFalse(animator.isAlive());
+    Assertions.assertTrue(larsonScanner.isDisposed());
+    Assertions.assertNull(larsonScanner.getScannerGroup());
+    Assertions.assertEquals(0, group.getNumberOfScanners());
+    Assertions.assertEquals(1.0D, larsonScanner.getSpeed());
+
+    larsonScanner.play();
+    larsonScanner.setNumberOfElements((byte) 7);
+    Assertions.assertEquals(5, larsonScanner.getNumberOfElements());
+    group.add(larsonScanner);
+    Assertions.assertEquals(0, group.getNumberOfScanners());
+    paint(larsonScanner);
+    larsonScanner.dispose();
+  }
+
+  @Test
+  void engineTests() throws Exception {
+    ScannerEngine engine = new ScannerEngine();
+    Assertions.assertTrue(engine.resize(410, 40));
+    Assertions.assertFalse(engine.resize(410, 40));
+    Assertions.assertEquals(410.0D, engine.getWidth());
+    Assertions.assertEquals(16.4D, engine.getElementWidth(), 0.000001D);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> engine.setNumberOfElements((byte) 4));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> engine.setDivider(0.5D));
+
+    Assertions.assertEquals(5, engine.layout());
+    Assertions.assertEquals(-41.0D, engine.getElementStart(0), 0.000001D);
+    Assertions.assertEquals(4, engine.getElementNumber(4));
+    for (int tick = 0; tick < 26; tick++) {
+      engine.tick();
+    }
+    Assertions.assertEquals(416, engine.getPosition());
+    Assertions.assertTrue(engine.isIncreasing());
+    engine.tick();
+    Assertions.assertEquals(410, engine.getPosition());
+    Assertions.assertFalse(engine.isIncreasing());
+
+    engine.setAnimationModel(AnimationModel.KITT);
+    engine.setGapped(true);
+    engine.setUseAfterglow(true);
+    engine.setEasing(ScannerEngine.EASING_SINE);
+    engine.setOrientation(ScannerEngine.ORIENTATION_RING);
+    Assertions.assertTrue(engine.resize(200, 200));
+    Assertions.assertEquals(engine.getPathLength(), (int) Math.round(engine.getWidth()));
+    for (int tick = 0; tick < 100; tick++) {
+      engine.tick();
+      Assertions.assertTrue(engine.layout() >= 5);
+    }
+    Assertions.assertEquals((int) engine.getWidth(), engine.getAfterglow().length);
+    Assertions.assertTrue(engine.getAfterglow()[engine.getPosition()] > 0);
+
+    // The engine must run without loading AWT or Swing, which this JVM already loaded, and code
+    // driving it must compile and run with java.base alone where modules can be limited.
+    boolean modules = !System.getProperty("java.specification.version").startsWith("1.");
+    List<String> command = new ArrayList<>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    if (modules) {
+      command.addAll(Arrays.asList("--limit-modules", "java.base"));
+    }
+    command.addAll(Arrays.asList("-verbose:class", "-cp", System.getProperty("java.class.path"), HeadlessEngine.class.getName()));
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    List<String> loaded = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.contains(" java.awt.") || line.contains(" javax.swing.")) {
+          loaded.add(line);
+        }
+      }
+    }
+    Assertions.assertEquals(0, process.waitFor());
+    Assertions.assertTrue(loaded.isEmpty(), String.join("\n", loaded));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (modules && compiler != null) {
+      Path source = Files.createTempDirectory("engine").resolve("Driver.java");
+      Files.write(
+          source,
+          Arrays.asList(
+              "class Driver {",
+              "  void drive(de.griefed.larsonscanner.ScannerEngine engine) {",
+              "    engine.setAnimationModel(de.griefed.larsonscanner.AnimationModel.KITT);",
+              "    engine.setEasing(de.griefed.larsonscanner.ScannerEngine.EASING_SINE);",
+              "  }",
+              "}"));
+      Assertions.assertEquals(0, compiler.run(null, null, null, "--limit-modules", "java.base", "-cp", System.getProperty("java.class.path"), "-d", source.getParent().toString(), source.toString()));
+    }
+  }
+
+  static class HeadlessEngine {
+    public static void main(String[] args) {
+      ScannerEngine engine = new ScannerEngine();
+      engine.setAnimationModel(AnimationModel.KITT);
+      engine.setUseAfterglow(true);
+      engine.setEasing(ScannerEngine.EASING_KITT);
+      engine.resize(144, 1);
+      for (int tick = 0; tick < 1000; tick++) {
+        engine.tick();
+        engine.layout();
+      }
+    }
+  }
+
+  private BufferedImage paint(LarsonScanner larsonScanner) {
+    larsonScanner.pause();
+    larsonScanner.setSize(400, 40);
+    larsonScanner.doLayout();
+    BufferedImage image = new BufferedImage(400, 40, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    larsonScanner.paint(graphics);
+    graphics.dispose();
+    return image;
+  }
 }